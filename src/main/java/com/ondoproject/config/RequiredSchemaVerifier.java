@@ -0,0 +1,38 @@
+package com.ondoproject.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * schema.sql 은 continue-on-error 로 실행되어 실패가 DEBUG 로그로만 남는다.
+ * 인덱스는 없어도 느려질 뿐이지만 쿼리가 직접 참조하는 컬럼은 없으면 요청마다 500 이 되므로,
+ * 시작 시 확인하여 없으면 애플리케이션 시작을 실패시킨다.
+ */
+@Component
+public class RequiredSchemaVerifier implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RequiredSchemaVerifier(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // NewsRepository.searchPublished / countSearchPublished
+        requireColumn("news", "search_vector");
+    }
+
+    private void requireColumn(String table, String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?",
+                Integer.class, table, column);
+        if (count == null || count == 0) {
+            throw new IllegalStateException("필수 컬럼 " + table + "." + column + " 이 없습니다. "
+                    + "schema.sql 실행 실패 여부를 확인하세요 (logging.level.org.springframework.jdbc.datasource.init=DEBUG).");
+        }
+    }
+}
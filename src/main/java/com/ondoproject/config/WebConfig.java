@@ -1,10 +1,13 @@
 package com.ondoproject.config;
 
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     @Override
@@ -21,7 +24,7 @@ public class WebConfig implements WebMvcConfigurer {
         // 업로드된 이미지 파일을 정적 리소스로 서빙
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:/app/uploads/")
-                .setCachePeriod(3600);
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
         
         // 추가 설정으로 다른 경로도 시도
         registry.addResourceHandler("/static/**")
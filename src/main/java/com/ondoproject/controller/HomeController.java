@@ -0,0 +1,70 @@
+package com.ondoproject.controller;
+
+import com.ondoproject.service.home.HomeBundleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "홈", description = "첫 화면 묶음 API")
+@RestController
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final HomeBundleService homeBundleService;
+
+    @Operation(summary = "첫 화면 묶음 조회",
+            description = "노출 이미지, 프로젝트 카드, 최신 뉴스, 멤버, About 을 한 번에 반환합니다. (미리 만든 응답, gzip/ETag 지원)")
+    @GetMapping("/home")
+    public ResponseEntity<byte[]> getHome(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        HomeBundleService.Snapshot snapshot = homeBundleService.get();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(acceptEncoding)) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .eTag(snapshot.getGzipEtag())
+                    .body(snapshot.getGzip());
+        }
+        return response
+                .eTag(snapshot.getEtag())
+                .body(snapshot.getJson());
+    }
+
+    // Accept-Encoding 의 q 값까지 확인 (gzip;q=0 은 거부, gzip 항목이 없으면 * 항목을 따른다)
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double wildcard = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim().toLowerCase();
+                if (param.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                return quality > 0;
+            }
+            if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+        return wildcard != null && wildcard > 0;
+    }
+}
@@ -1,11 +1,18 @@
 package com.ondoproject.controller;
 
-import com.ondoproject.dto.image.ImagesDTO;
 import com.ondoproject.dto.image.ImageUploadResponse;
 import com.ondoproject.dto.image.ErrorResponse;
+import com.ondoproject.dto.image.ImageFacetResponse;
+import com.ondoproject.dto.image.ImagePageResponse;
+import com.ondoproject.dto.image.ImageReorderRequest;
+import com.ondoproject.dto.image.ImageReorderResponse;
+import com.ondoproject.dto.image.MultipleImageUploadResponse;
+import com.ondoproject.service.image.GalleryCache;
+import com.ondoproject.service.image.ImageOrderService;
 import com.ondoproject.service.image.ImageService;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,11 +26,73 @@ import java.util.List;
 @AllArgsConstructor
 public class ImageController {
     private final ImageService imageService;
+    private final ImageOrderService imageOrderService;
 
-    //getAllImages
+    //getAllImages - 미리 직렬화된 갤러리 스냅샷을 그대로 반환
+    // fields(예: id,imageURL,fileName) 를 지정하면 해당 필드만 조회해 반환
     @RequestMapping(value = "/images", method = RequestMethod.GET)
-    public List<ImagesDTO> getAllImages() {
-        return imageService.getAllImages();
+    public ResponseEntity<?> getAllImages(@RequestParam(value = "fields", required = false) String fields) {
+        if (fields != null) {
+            try {
+                return ResponseEntity.ok(imageService.getImageFields(fields));
+            } catch (RuntimeException e) {
+                ErrorResponse errorResponse = ErrorResponse.builder()
+                        .error("INVALID_FIELDS")
+                        .message(e.getMessage())
+                        .timestamp(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                        .build();
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+            }
+        }
+        GalleryCache.Snapshot snapshot = imageService.getGallerySnapshot();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.getEtag())
+                .body(snapshot.getJson());
+    }
+
+    // 갤러리 커서 페이지 조회 - 응답의 nextCursor 를 다음 요청의 cursor 로 전달
+    @GetMapping("/images/page")
+    public ResponseEntity<?> getImagePage(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "isShow", required = false) Boolean isShow,
+            @RequestParam(value = "isBasic", required = false) Boolean isBasic,
+            @RequestParam(value = "projectId", required = false) Long projectId,
+            @RequestParam(value = "tagId", required = false) Long tagId) {
+        try {
+            ImagePageResponse response = imageService.getImagePage(cursor, size, isShow, isBasic, projectId, tagId);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .error("INVALID_REQUEST")
+                    .message(e.getMessage())
+                    .timestamp(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                    .build();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    // 태그 조합 필터 - match=all(모든 태그) / any(하나 이상), 결과에 남은 태그별 개수 포함
+    // 이미지는 커서 페이지로 나눠 내려주고, 태그별 개수는 필터 결과 전체 기준
+    @GetMapping("/images/facets")
+    public ResponseEntity<?> getImageFacets(
+            @RequestParam(value = "tagIds", required = false) List<Long> tagIds,
+            @RequestParam(value = "match", defaultValue = "all") String match,
+            @RequestParam(value = "showOnly", defaultValue = "true") boolean showOnly,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        try {
+            ImageFacetResponse response = imageService.getImageFacets(tagIds, match, showOnly, cursor, size);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .error("INVALID_REQUEST")
+                    .message(e.getMessage())
+                    .timestamp(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                    .build();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
     }
 
     // 단일 이미지 업로드
@@ -34,7 +103,7 @@ public class ImageController {
             @RequestParam(value = "description", required = false) String description,
             @RequestParam(value = "isShow", defaultValue = "true") boolean isShow,
             @RequestParam(value = "isBasic", defaultValue = "false") boolean isBasic,
-            @RequestParam(value = "index", defaultValue = "0") int index) {
+            @RequestParam(value = "index", required = false) Integer index) {
         
         try {
             ImageUploadResponse response = imageService.uploadImage(file, projectId, description, isShow, isBasic, index);
@@ -56,9 +125,15 @@ public class ImageController {
             @RequestParam(value = "projectId", required = false) Long projectId,
             @RequestParam(value = "description", required = false) String description,
             @RequestParam(value = "isShow", defaultValue = "true") boolean isShow,
-            @RequestParam(value = "isBasic", defaultValue = "false") boolean isBasic) {
+            @RequestParam(value = "isBasic", defaultValue = "false") boolean isBasic,
+            @RequestParam(value = "parallel", defaultValue = "false") boolean parallel) {
         
         try {
+            // 병렬 모드: 파일별 성공/실패 결과를 요청 순서대로 반환
+            if (parallel) {
+                MultipleImageUploadResponse response = imageService.uploadMultipleImagesInParallel(files, projectId, description, isShow, isBasic);
+                return ResponseEntity.ok(response);
+            }
             List<ImageUploadResponse> responses = imageService.uploadMultipleImages(files, projectId, description, isShow, isBasic);
             return ResponseEntity.ok(responses);
         } catch (RuntimeException e) {
@@ -71,6 +146,22 @@ public class ImageController {
         }
     }
 
+    // 갤러리 순서 일괄 변경 (전체 순서 목록 또는 단일 이미지 이동)
+    @PutMapping("/images/order")
+    public ResponseEntity<?> reorderImages(@RequestBody ImageReorderRequest request) {
+        try {
+            ImageReorderResponse response = imageOrderService.reorder(request);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .error("REORDER_FAILED")
+                    .message(e.getMessage())
+                    .timestamp(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                    .build();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
     // 이미지 삭제 (관련 ImageTag도 함께 자동 삭제)
     @DeleteMapping("/images/{imageId}")
     public ResponseEntity<?> deleteImage(@PathVariable Long imageId) {
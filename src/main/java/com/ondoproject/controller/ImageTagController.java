@@ -1,11 +1,16 @@
 package com.ondoproject.controller;
 
 import com.ondoproject.domain.project.ImageTag;
-import com.ondoproject.domain.project.Images_Info;
 import com.ondoproject.domain.tag.Tag;
+import com.ondoproject.dto.imagetag.ImageTagBulkRequest;
+import com.ondoproject.dto.imagetag.ImageTagBulkResponse;
 import com.ondoproject.dto.imagetag.ImageTagResponse;
+import com.ondoproject.dto.imagetag.TaggedImageResponse;
 import com.ondoproject.service.ImageTagService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -17,6 +22,8 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class ImageTagController {
 
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ImageTagService imageTagService;
 
     /**
@@ -42,6 +49,32 @@ public class ImageTagController {
         }
     }
 
+    /**
+     * 여러 이미지 x 여러 태그 일괄 연결
+     * POST /api/image-tags/bulk-link  {"imageIds": [93, 94], "tagIds": [41, 42]}
+     */
+    @PostMapping("/bulk-link")
+    public ResponseEntity<ImageTagBulkResponse> linkImagesToTags(@RequestBody ImageTagBulkRequest request) {
+        try {
+            return ResponseEntity.ok(imageTagService.linkImagesToTags(request.getImageIds(), request.getTagIds()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 여러 이미지 x 여러 태그 일괄 연결 해제
+     * POST /api/image-tags/bulk-unlink  {"imageIds": [93, 94], "tagIds": [41, 42]}
+     */
+    @PostMapping("/bulk-unlink")
+    public ResponseEntity<ImageTagBulkResponse> unlinkImagesFromTags(@RequestBody ImageTagBulkRequest request) {
+        try {
+            return ResponseEntity.ok(imageTagService.unlinkImagesFromTags(request.getImageIds(), request.getTagIds()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     /**
      * 이미지와 태그 연결 해제
      * DELETE /api/image-tags/unlink?imageId=93&tagId=41
@@ -73,36 +106,32 @@ public class ImageTagController {
     }
 
     /**
-     * 특정 태그의 모든 이미지 조회
-     * GET /api/image-tags/tag/41/images
+     * 특정 태그의 이미지 조회 (페이지)
+     * GET /api/image-tags/tag/41/images?page=0&size=50
      */
     @GetMapping("/tag/{tagId}/images")
-    public ResponseEntity<List<Images_Info>> getImagesByTagId(@PathVariable Long tagId) {
+    public ResponseEntity<PagedModel<TaggedImageResponse>> getImagesByTagId(
+            @PathVariable Long tagId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
         try {
-            List<Images_Info> images = imageTagService.getImagesByTagId(tagId);
-            return ResponseEntity.ok(images);
+            Page<TaggedImageResponse> images = imageTagService.getImagesByTagId(tagId, pageRequest(page, size));
+            return ResponseEntity.ok(new PagedModel<>(images));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     /**
-     * 모든 이미지-태그 연결 조회
-     * GET /api/image-tags
+     * 이미지-태그 연결 조회 (페이지)
+     * GET /api/image-tags?page=0&size=50
      */
     @GetMapping
-    public ResponseEntity<List<ImageTagResponse>> getAllImageTags() {
-        List<ImageTag> imageTags = imageTagService.getAllImageTags();
-        List<ImageTagResponse> responses = imageTags.stream()
-            .map(imageTag -> new ImageTagResponse(
-                imageTag.getId(),
-                imageTag.getImagesInfo().getId(),
-                imageTag.getTag().getId(),
-                imageTag.getTag().getTagName(),
-                imageTag.getCreateDateTime()
-            ))
-            .toList();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<PagedModel<ImageTagResponse>> getAllImageTags(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        Page<ImageTagResponse> imageTags = imageTagService.getAllImageTags(pageRequest(page, size));
+        return ResponseEntity.ok(new PagedModel<>(imageTags));
     }
 
     /**
@@ -132,4 +161,9 @@ public class ImageTagController {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    // 페이지 크기는 1 ~ MAX_PAGE_SIZE 로 제한
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(MAX_PAGE_SIZE, size)));
+    }
 }
@@ -2,6 +2,7 @@ package com.ondoproject.controller;
 
 import com.ondoproject.dto.news.*;
 import com.ondoproject.service.news.NewsService;
+import com.ondoproject.service.news.NewsSyndicationFeed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,7 +13,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,14 +28,25 @@ import java.util.List;
 public class NewsController {
     
     private final NewsService newsService;
+    private final NewsSyndicationFeed newsSyndicationFeed;
 
-    @Operation(summary = "모든 뉴스 조회", description = "발행된 모든 뉴스를 최신순으로 조회합니다.")
+    @Operation(summary = "모든 뉴스 조회", description = "발행된 모든 뉴스를 최신순으로 조회합니다. fields 를 지정하면 해당 필드만 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "알 수 없는 필드"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @GetMapping
-    public ResponseEntity<List<NewsListResponse>> getAllNews() {
+    public ResponseEntity<?> getAllNews(
+            @Parameter(description = "반환할 필드 (쉼표 구분, 예: id,title,imageURL)")
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            try {
+                return ResponseEntity.ok(newsService.getNewsFields(fields));
+            } catch (RuntimeException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
         List<NewsListResponse> newsList = newsService.getAllNews();
         return ResponseEntity.ok(newsList);
     }
@@ -50,6 +64,42 @@ public class NewsController {
         return ResponseEntity.ok(newsPage);
     }
 
+    @Operation(summary = "뉴스 피드 (무한 스크롤)", description = "발행된 뉴스를 최신순으로 커서 기반 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<NewsFeedResponse> getNewsFeed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(newsService.getNewsFeed(cursor, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @Operation(summary = "RSS 피드", description = "발행된 최신 뉴스의 RSS 2.0 피드 (미리 렌더링된 응답, ETag/Last-Modified 지원)")
+    @GetMapping("/rss.xml")
+    public ResponseEntity<byte[]> getRssFeed() {
+        return syndicationFeed(NewsSyndicationFeed.Format.RSS);
+    }
+
+    @Operation(summary = "Atom 피드", description = "발행된 최신 뉴스의 Atom 1.0 피드 (미리 렌더링된 응답, ETag/Last-Modified 지원)")
+    @GetMapping("/atom.xml")
+    public ResponseEntity<byte[]> getAtomFeed() {
+        return syndicationFeed(NewsSyndicationFeed.Format.ATOM);
+    }
+
+    @Operation(summary = "JSON Feed", description = "발행된 최신 뉴스의 JSON Feed 1.1 (미리 렌더링된 응답, ETag/Last-Modified 지원)")
+    @GetMapping("/feed.json")
+    public ResponseEntity<byte[]> getJsonFeed() {
+        return syndicationFeed(NewsSyndicationFeed.Format.JSON);
+    }
+
     @Operation(summary = "특정 뉴스 조회", description = "ID로 특정 뉴스의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
@@ -127,6 +177,18 @@ public class NewsController {
         }
     }
 
+    @Operation(summary = "뉴스 전문 검색", description = "제목/요약/본문에서 검색어(접두어 일치)를 찾아 관련도 순으로 페이징 조회합니다. 일치 부분은 <mark> 로 강조됩니다.")
+    @GetMapping("/search")
+    public ResponseEntity<PagedModel<NewsSearchResponse>> search(
+            @Parameter(description = "검색어 (공백으로 구분된 모든 단어를 포함하는 뉴스)", required = true)
+            @RequestParam String q,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 50)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(new PagedModel<>(newsService.search(q, page, size)));
+    }
+
     @Operation(summary = "제목으로 뉴스 검색", description = "제목에 특정 키워드가 포함된 뉴스를 검색합니다.")
     @GetMapping("/search/title")
     public ResponseEntity<List<NewsListResponse>> searchByTitle(
@@ -151,4 +213,18 @@ public class NewsController {
         List<NewsListResponse> newsList = newsService.getAllNewsForAdmin();
         return ResponseEntity.ok(newsList);
     }
+
+    // If-None-Match / If-Modified-Since 가 일치하면 Spring 이 304 로 응답한다
+    // 사이트 주소(ondo.news.syndication.site-url)가 설정되지 않았으면 503
+    private ResponseEntity<byte[]> syndicationFeed(NewsSyndicationFeed.Format format) {
+        if (!newsSyndicationFeed.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        NewsSyndicationFeed.Body body = newsSyndicationFeed.get(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .eTag(body.getEtag())
+                .lastModified(body.getLastModified())
+                .body(body.getBytes());
+    }
 }
@@ -24,10 +24,22 @@ public class ProjectController {
 
     private final ProjectService projectService;
 
-    @Operation(summary = "전체 프로젝트 조회", description = "전체 프로젝트를 조회합니다.")
+    @Operation(summary = "전체 프로젝트 조회", description = "전체 프로젝트를 조회합니다. fields(예: id,projectName,projectImageUrl) 를 지정하면 해당 필드만 반환합니다.")
     @GetMapping
-    public List<ProjectResponseWithProjectImage> getAll() {
-        return projectService.getAllProjectsWithImageUrl();
+    public ResponseEntity<?> getAll(@RequestParam(required = false) String fields) {
+        if (fields == null) {
+            return ResponseEntity.ok(projectService.getAllProjectsWithImageUrl());
+        }
+        try {
+            return ResponseEntity.ok(projectService.getProjectFields(fields));
+        } catch (RuntimeException e) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .error("INVALID_FIELDS")
+                    .message(e.getMessage())
+                    .timestamp(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                    .build();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
     }
 
     @Operation(summary = "프로젝트 단일 조회", description = "ID로 특정 프로젝트를 조회합니다.")
@@ -103,6 +115,22 @@ public class ProjectController {
         }
     }
 
+    @Operation(summary = "프로젝트 순서 변경", description = "전체 순서 목록(projectIds) 또는 단일 이동(moveProjectId, toPosition)으로 프로젝트 순서를 변경합니다.")
+    @PutMapping("/order")
+    public ResponseEntity<?> reorderProjects(@RequestBody ProjectReorderRequest request) {
+        try {
+            ProjectReorderResponse response = projectService.reorderProjects(request);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .error("REORDER_FAILED")
+                    .message(e.getMessage())
+                    .timestamp(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")))
+                    .build();
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
     @Operation(summary = "프로젝트 이미지 업데이트", description = "프로젝트에 연결된 이미지들을 업데이트합니다. (기존 이미지 연결 해제 후 새로운 이미지 연결)")
     @PutMapping("/{id}/images")
     public ResponseEntity<?> updateProjectImages(
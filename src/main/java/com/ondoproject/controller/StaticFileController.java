@@ -1,41 +1,93 @@
 package com.ondoproject.controller;
 
+import com.ondoproject.dto.image.HotFileCacheStatsResponse;
+import com.ondoproject.service.image.HotFileCache;
+import com.ondoproject.service.image.ImageResizeCache;
+import com.ondoproject.service.image.UploadFileMetadataCache;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.io.File;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
+@RequiredArgsConstructor
 public class StaticFileController {
 
-    private static final String UPLOAD_DIR = "/app/uploads/";
+    // 업로드 파일은 UUID 이름이라 내용이 바뀌지 않으므로 장기 immutable 캐시
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
 
+    private final ImageResizeCache imageResizeCache;
+    private final UploadFileMetadataCache uploadFileMetadataCache;
+    private final HotFileCache hotFileCache;
+
+    // Range 요청은 Resource 본문에 대해 Spring MVC 가 206 Partial Content 로 처리한다
     @GetMapping("/uploads/{filename:.+}")
-    public ResponseEntity<Resource> serveFile(@PathVariable String filename) {
+    public ResponseEntity<Resource> serveFile(@PathVariable String filename,
+                                              @RequestParam(value = "w", required = false) Integer width,
+                                              @RequestParam(value = "q", required = false) Integer quality,
+                                              WebRequest webRequest,
+                                              HttpServletResponse response) {
         try {
-            Path filePath = Paths.get(UPLOAD_DIR).resolve(filename);
-            File file = filePath.toFile();
-            
-            if (!file.exists() || !file.isFile()) {
+            // 숨김 파일(.cache 디렉토리, 업로드 임시 파일)은 서빙하지 않음
+            if (filename.startsWith(".")) {
                 return ResponseEntity.notFound().build();
             }
-            
-            Resource resource = new FileSystemResource(file);
-            
+
+            Optional<UploadFileMetadataCache.FileMetadata> metadata = uploadFileMetadataCache.get(filename);
+            if (metadata.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            // 리사이즈 결과는 원본 + (허용 목록으로 맞춘) 파라미터로 결정되므로 원본 ETag 에 실제 너비/품질을 붙여 사용
+            String etag = "\"" + metadata.get().getEtag()
+                    + (width != null ? "-w" + imageResizeCache.snapWidth(width) + "q" + imageResizeCache.snapQuality(quality) : "") + "\"";
+            long lastModified = metadata.get().getLastModified();
+
+            // 조건부 요청이 일치하면 파일을 열지 않고 종료 (304/412 상태와 ETag 는 checkNotModified 가 이미 설정)
+            if (webRequest.checkNotModified(etag, lastModified)) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE.getHeaderValue());
+                return null;
+            }
+
+            Path file = metadata.get().getPath();
+            Resource resource = null;
+
+            // ?w= 요청 시 리사이즈 캐시에서 서빙 (원본보다 크거나 리사이즈 불가 형식이면 원본)
+            if (width != null) {
+                Optional<Path> resized = imageResizeCache.getOrCreate(filename, width, quality);
+                if (resized.isPresent()) {
+                    resource = new FileSystemResource(resized.get());
+                }
+            }
+
+            // 원본은 자주 요청되는 파일이면 메모리 캐시에서 서빙
+            if (resource == null) {
+                resource = hotFileCache.get(filename, file, metadata.get().getLength())
+                        .orElseGet(() -> new FileSystemResource(file));
+            }
+
             // 파일 확장자에 따른 Content-Type 설정
             String contentType = getContentType(filename);
             
             return ResponseEntity.ok()
                     .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + filename + "\"")
                     .contentType(MediaType.parseMediaType(contentType))
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .cacheControl(IMMUTABLE)
                     .body(resource);
                     
         } catch (Exception e) {
@@ -43,6 +95,12 @@ public class StaticFileController {
         }
     }
     
+    // 핫 파일 메모리 캐시 적중률 등 통계
+    @GetMapping("/api/cache/uploads/stats")
+    public HotFileCacheStatsResponse getHotFileCacheStats() {
+        return hotFileCache.stats();
+    }
+    
     private String getContentType(String filename) {
         String extension = filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
         switch (extension) {
@@ -4,6 +4,7 @@ import com.ondoproject.dto.tag.TagCreateRequest;
 import com.ondoproject.dto.tag.TagErrorResponse;
 import com.ondoproject.dto.tag.TagResponse;
 import com.ondoproject.dto.tag.TagUpdateRequest;
+import com.ondoproject.dto.tag.TagUsageResponse;
 import com.ondoproject.service.tag.TagService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -33,6 +34,16 @@ public class TagController {
         }
     }
 
+    // 태그별 연결된 이미지 수 (관리 화면의 "N개 이미지에서 사용" 표시용)
+    @GetMapping("/usage")
+    public ResponseEntity<List<TagUsageResponse>> getTagUsage() {
+        try {
+            return ResponseEntity.ok(tagService.getTagUsage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     // 특정 태그 조회
     @GetMapping("/{id}")
     public ResponseEntity<?> getTagById(@PathVariable Long id) {
@@ -131,18 +142,13 @@ public class TagController {
         }
     }
 
-    // 태그명으로 검색
+    // 태그명으로 검색 (자동완성: 정확히 일치 > 접두어 일치 > 부분 일치 순, 최대 limit 개)
     @GetMapping("/search")
-    public ResponseEntity<?> searchTagByName(@RequestParam String name) {
+    public ResponseEntity<?> searchTagByName(@RequestParam String name,
+                                             @RequestParam(defaultValue = "10") int limit) {
         try {
-            // 이 기능을 위해서는 TagService에 searchByName 메서드를 추가해야 합니다
-            // 현재는 간단히 모든 태그를 조회하고 필터링하는 방식으로 구현
-            List<TagResponse> allTags = tagService.findAll();
-            List<TagResponse> filteredTags = allTags.stream()
-                    .filter(tag -> tag.getTagName().toLowerCase().contains(name.toLowerCase()))
-                    .toList();
-            
-            return ResponseEntity.ok(filteredTags);
+            List<TagResponse> tags = tagService.searchByName(name, limit);
+            return ResponseEntity.ok(tags);
         } catch (Exception e) {
             TagErrorResponse errorResponse = TagErrorResponse.builder()
                     .error("SEARCH_FAILED")
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "news")
+@Table(name = "news", indexes = {
+        // 발행 뉴스 키셋 피드 (WHERE is_published ORDER BY created_at DESC, id DESC)
+        @Index(name = "idx_news_published_created_id", columnList = "is_published, created_at DESC, id DESC")
+})
 public class News {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
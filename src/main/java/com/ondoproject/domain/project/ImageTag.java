@@ -6,7 +6,13 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "image_tag")
+@Table(name = "image_tag", uniqueConstraints = {
+        // 같은 이미지-태그 조합은 한 번만 연결 (일괄 연결 시 ON CONFLICT DO NOTHING 대상)
+        @UniqueConstraint(name = "uk_image_tag_image_tag", columnNames = {"images_info_id", "tag_id"})
+}, indexes = {
+        // 태그 필터 (EXISTS) 및 태그별 이미지 조회용
+        @Index(name = "idx_image_tag_tag_image", columnList = "tag_id, images_info_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
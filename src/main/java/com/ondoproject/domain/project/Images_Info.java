@@ -6,6 +6,15 @@ import lombok.*;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        // 갤러리 키셋 페이지네이션 (ORDER BY index, id) 및 필터별 조회용
+        @Index(name = "idx_images_info_index_id", columnList = "index, id"),
+        @Index(name = "idx_images_info_show_index_id", columnList = "is_show, index, id"),
+        @Index(name = "idx_images_info_basic_index_id", columnList = "is_basic, index, id"),
+        @Index(name = "idx_images_info_project_index_id", columnList = "project_id, index, id"),
+        // 프로젝트 대표 이미지 선택 (DISTINCT ON project_id ORDER BY is_basic DESC, index, id)
+        @Index(name = "idx_images_info_project_cover", columnList = "project_id, is_basic DESC, index, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -24,6 +33,12 @@ public class Images_Info {
     private boolean isBasic;
     private int index;
     private String imageURL;
+    private String contentHash;     // 업로드 시 계산한 SHA-256 (hex)
+    private Long fileSize;
+    private String contentType;
+    private Integer width;          // 원본 픽셀 크기 (파생 이미지 생성 시 기록)
+    private Integer height;
+    private String variantWidths;   // 생성된 파생 이미지 너비 목록 (예: "320,800,1600")
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "project_id")
     private Project project;
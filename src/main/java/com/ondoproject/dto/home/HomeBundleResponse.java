@@ -0,0 +1,27 @@
+package com.ondoproject.dto.home;
+
+import com.ondoproject.dto.about.AboutResponse;
+import com.ondoproject.dto.author.AuthorResponse;
+import com.ondoproject.dto.image.ImagesDTO;
+import com.ondoproject.dto.news.NewsListResponse;
+import com.ondoproject.dto.project.ProjectResponseWithProjectImage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 첫 화면 묶음 응답 (GET /home)
+@Getter
+@Builder
+@AllArgsConstructor
+public class HomeBundleResponse {
+    private long version;                                   // 번들 버전 (변경 이벤트마다 증가)
+    private LocalDateTime generatedAt;
+    private List<ImagesDTO> images;                         // 노출 이미지 (isShow)
+    private List<ProjectResponseWithProjectImage> projects; // 대표 이미지 포함 프로젝트 카드
+    private List<NewsListResponse> news;                    // 최신 발행 뉴스
+    private List<AuthorResponse> members;
+    private List<AboutResponse> about;
+}
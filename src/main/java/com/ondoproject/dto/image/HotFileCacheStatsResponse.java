@@ -0,0 +1,22 @@
+package com.ondoproject.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotFileCacheStatsResponse {
+    private boolean enabled;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long admissions;
+    private long evictions;
+    private int entryCount;
+    private long usedBytes;
+    private long maxBytes;
+}
@@ -0,0 +1,30 @@
+package com.ondoproject.dto.image;
+
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ImageFacetResponse {
+    private int totalCount;             // 필터 결과 전체 이미지 수
+    private List<ImagesDTO> images;     // 갤러리 순서 (현재 페이지)
+    private String nextCursor;          // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private List<TagFacet> facets;      // 결과 이미지에 붙은 태그별 개수 (많은 순)
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @Builder
+    public static class TagFacet {
+        private Long tagId;
+        private String tagName;
+        private int count;
+        private boolean selected;       // 요청한 필터 태그인지
+    }
+}
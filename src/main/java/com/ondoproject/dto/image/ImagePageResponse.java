@@ -0,0 +1,16 @@
+package com.ondoproject.dto.image;
+
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class ImagePageResponse {
+    private List<ImagesDTO> items;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,23 @@
+package com.ondoproject.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 갤러리 순서 일괄 변경 요청. 둘 중 하나를 사용한다.
+ * - imageIds: 새 순서대로 나열한 이미지 ID (나열되지 않은 이미지는 기존 순서를 유지한 채 뒤에 배치)
+ * - moveImageId + toPosition: 이미지 하나를 0부터 시작하는 위치로 이동
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageReorderRequest {
+    private List<Long> imageIds;
+    private Long moveImageId;
+    private Integer toPosition;
+}
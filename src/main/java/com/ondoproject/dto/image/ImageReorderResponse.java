@@ -0,0 +1,15 @@
+package com.ondoproject.dto.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageReorderResponse {
+    private int updatedCount;       // index 가 실제로 바뀐 이미지 수
+    private boolean renumbered;     // 전체 순서를 다시 매겼는지 (단일 이동은 보통 false)
+}
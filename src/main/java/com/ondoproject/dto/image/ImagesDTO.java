@@ -19,6 +19,7 @@ public class ImagesDTO {
     private boolean isShow;
     private boolean isBasic;
     private List<TagInfo> tags;
+    private List<ImageSource> srcset;   // 작은 파일부터 나열 (원본이 마지막)
 
     @AllArgsConstructor
     @NoArgsConstructor
@@ -30,4 +31,14 @@ public class ImagesDTO {
         private String tagName;
         private String createDateTime;
     }
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @Builder
+    public static class ImageSource {
+        private String url;
+        private Integer width;
+    }
 }
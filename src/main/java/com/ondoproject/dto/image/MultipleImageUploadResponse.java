@@ -0,0 +1,30 @@
+package com.ondoproject.dto.image;
+
+import lombok.*;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class MultipleImageUploadResponse {
+    private int totalCount;
+    private int successCount;
+    private int failureCount;
+    private List<FileResult> results;   // 요청한 파일 순서(index) 그대로
+
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Getter
+    @Setter
+    @Builder
+    public static class FileResult {
+        private int index;
+        private String originalFileName;
+        private boolean success;
+        private ImageUploadResponse image;  // 성공 시
+        private String error;               // 실패 시
+    }
+}
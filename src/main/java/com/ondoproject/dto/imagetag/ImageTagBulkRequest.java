@@ -0,0 +1,18 @@
+package com.ondoproject.dto.imagetag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// imageIds x tagIds 의 모든 조합을 연결/해제
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageTagBulkRequest {
+    private List<Long> imageIds;
+    private List<Long> tagIds;
+}
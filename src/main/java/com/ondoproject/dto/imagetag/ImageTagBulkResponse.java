@@ -0,0 +1,14 @@
+package com.ondoproject.dto.imagetag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ImageTagBulkResponse {
+    private int requestedCount;     // 요청된 (이미지, 태그) 조합 수
+    private int affectedCount;      // 실제로 추가/삭제된 연결 수
+    private int skippedCount;       // 이미 연결되어 있었거나(연결) 연결이 없었던(해제) 조합 수
+}
@@ -0,0 +1,21 @@
+package com.ondoproject.dto.imagetag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+// 태그에 연결된 이미지 (엔티티 대신 필요한 컬럼만 조회)
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaggedImageResponse {
+    private Long id;
+    private String imageURL;
+    private String fileName;
+    private boolean isShow;
+    private boolean isBasic;
+    private int index;
+    private Long projectId;
+    private String projectName;
+    private String linkedDateTime;  // 태그 연결 시각
+}
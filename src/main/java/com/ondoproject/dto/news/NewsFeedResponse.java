@@ -0,0 +1,17 @@
+package com.ondoproject.dto.news;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class NewsFeedResponse {
+    private List<NewsListResponse> items;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private long totalCount;    // 발행된 뉴스 전체 수 (캐시된 값)
+}
@@ -0,0 +1,22 @@
+package com.ondoproject.dto.news;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 뉴스 검색 결과 (titleHighlight/snippet 은 HTML 이스케이프된 원문에서 일치 부분만 <mark></mark> 로 감싼다)
+@Getter
+@Builder
+@AllArgsConstructor
+public class NewsSearchResponse {
+    private Long id;
+    private String title;
+    private String titleHighlight;
+    private String snippet;
+    private String imageURL;
+    private String author;
+    private LocalDateTime createdAt;
+    private Double rank;
+}
@@ -17,5 +17,5 @@ public class ProjectCreateRequest {
     private String grossFloorArea;
     private String client;
     private String architect;
-    private int index;
+    private Integer index;  // 위치 (0부터, 생략 시 목록 끝)
 }
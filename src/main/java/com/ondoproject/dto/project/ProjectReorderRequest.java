@@ -0,0 +1,23 @@
+package com.ondoproject.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 프로젝트 순서 변경 요청. 둘 중 하나를 사용한다.
+ * - projectIds: 새 순서대로 나열한 프로젝트 ID (나열되지 않은 프로젝트는 기존 순서를 유지한 채 뒤에 배치)
+ * - moveProjectId + toPosition: 프로젝트 하나를 0부터 시작하는 위치로 이동
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectReorderRequest {
+    private List<Long> projectIds;
+    private Long moveProjectId;
+    private Integer toPosition;
+}
@@ -0,0 +1,12 @@
+package com.ondoproject.dto.project;
+
+import lombok.*;
+
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProjectReorderResponse {
+    private int updatedCount;       // index 가 실제로 바뀐 프로젝트 수
+    private boolean renumbered;     // 전체 순서를 다시 매겼는지 (단일 이동은 보통 false)
+}
@@ -19,6 +19,6 @@ public class ProjectWithImagesRequest {
     private String grossFloorArea;
     private String client;
     private String architect;
-    private int index;
+    private Integer index;  // 위치 (0부터, 생략 시 목록 끝)
     private List<Long> imageIds; // 연결할 이미지 ID 목록
 }
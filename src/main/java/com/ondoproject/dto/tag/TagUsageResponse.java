@@ -0,0 +1,14 @@
+package com.ondoproject.dto.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TagUsageResponse {
+    private Long id;
+    private String tagName;
+    private long imageCount;    // 이 태그가 연결된 이미지 수
+}
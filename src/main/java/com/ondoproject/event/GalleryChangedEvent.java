@@ -0,0 +1,14 @@
+package com.ondoproject.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 갤러리(GET /images) 또는 프로젝트 목록에 영향을 주는 변경이 있었음을 알리는 이벤트.
+ * 이미지/태그/프로젝트를 수정하는 모든 경로에서 발행하며, 트랜잭션 커밋 후 캐시 버전을 올린다.
+ */
+@Getter
+@AllArgsConstructor
+public class GalleryChangedEvent {
+    private final String reason;
+}
@@ -0,0 +1,17 @@
+package com.ondoproject.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 뉴스가 생성/수정/삭제되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 후 뉴스 목록에서 파생된 캐시(발행 뉴스 수, 구독 피드 등)의 버전을 올린다.
+ * affectsPublished 는 변경 전/후 중 한 번이라도 발행 상태였는지 여부 (미발행 초안만 바뀐 경우 false).
+ */
+@Getter
+@AllArgsConstructor
+public class NewsChangedEvent {
+    private final Long newsId;
+    private final boolean affectsPublished;
+    private final String reason;
+}
@@ -0,0 +1,14 @@
+package com.ondoproject.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 태그가 생성/수정/삭제되었음을 알리는 이벤트.
+ * 트랜잭션 커밋 후 태그 사전(TagDictionary)의 버전을 올린다.
+ */
+@Getter
+@AllArgsConstructor
+public class TagChangedEvent {
+    private final String reason;
+}
@@ -0,0 +1,13 @@
+package com.ondoproject.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 업로드 파일(원본)이 디스크에서 삭제되었음을 알리는 이벤트 (파일 캐시 무효화용)
+ */
+@Getter
+@AllArgsConstructor
+public class UploadedFileDeletedEvent {
+    private final String fileName;
+}
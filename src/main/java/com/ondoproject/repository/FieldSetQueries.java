@@ -0,0 +1,52 @@
+package com.ondoproject.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청한 필드만 SELECT 하는 동적 JPQL (sparse fieldset) 공통 쿼리.
+ * 필드 이름은 반드시 paths(필드 이름 -> JPQL 경로) 에 있는 것만 허용하므로 JPQL 에 외부 문자열이 들어가지 않는다.
+ */
+final class FieldSetQueries {
+
+    private FieldSetQueries() {
+    }
+
+    // 결과 행은 요청한 필드 순서를 유지하는 필드 이름 -> 값 맵
+    static List<Map<String, Object>> select(EntityManager entityManager, Map<String, String> paths,
+                                            Collection<String> fields, String from, String where, String orderBy) {
+        List<String> selected = new ArrayList<>(fields);
+        if (selected.isEmpty()) {
+            throw new RuntimeException("조회할 필드가 없습니다.");
+        }
+        List<String> expressions = new ArrayList<>(selected.size());
+        for (String field : selected) {
+            String path = paths.get(field);
+            if (path == null) {
+                throw new RuntimeException("선택할 수 없는 필드입니다: " + field);
+            }
+            expressions.add(path);
+        }
+
+        String jpql = "SELECT " + String.join(", ", expressions) + " FROM " + from +
+                (where != null ? " WHERE " + where : "") +
+                (orderBy != null ? " ORDER BY " + orderBy : "");
+        List<Tuple> tuples = entityManager.createQuery(jpql, Tuple.class).getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < selected.size(); i++) {
+                row.put(selected.get(i), tuple.get(i));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -1,14 +1,22 @@
 package com.ondoproject.repository;
 
 import com.ondoproject.domain.project.Images_Info;
+import com.ondoproject.domain.project.Project;
+import com.ondoproject.repository.projection.GalleryImageRow;
+import com.ondoproject.repository.projection.ProjectCoverRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ImageRepository extends JpaRepository<Images_Info, Long> {
+public interface ImageRepository extends JpaRepository<Images_Info, Long>, ImageRepositoryCustom {
     public Images_Info findByProjectId(Long id);
     public List<Images_Info> findAllByIsShowTrueOrderByIndexAsc();
     public List<Images_Info> findAllByOrderByIndexAsc(); // 모든 이미지를 index 순으로 정렬
@@ -25,4 +33,76 @@ public interface ImageRepository extends JpaRepository<Images_Info, Long> {
            "LEFT JOIN FETCH i.project " +
            "ORDER BY i.index ASC")
     List<Images_Info> findAllWithProjectOrderByIndexAsc();
+
+    // 갤러리 조회: 이미지 + 프로젝트 + 태그 ID 를 엔티티 로딩 없이 한 번의 쿼리로 조회 (태그 이름 등은 TagDictionary 에서 매핑)
+    @Query("SELECT i.id AS id, i.imageURL AS imageURL, i.ImageName AS fileName, " +
+           "i.createDateTime AS createDateTime, i.index AS imageIndex, i.isShow AS isShow, i.isBasic AS isBasic, " +
+           "i.width AS width, i.variantWidths AS variantWidths, " +
+           "p.projectName AS projectName, p.description AS description, " +
+           "it.tag.id AS tagId " +
+           "FROM Images_Info i " +
+           "LEFT JOIN i.project p " +
+           "LEFT JOIN i.imageTags it " +
+           "ORDER BY i.index ASC, i.id ASC, it.id ASC")
+    List<GalleryImageRow> findGalleryRows();
+
+    // 갤러리 페이지 조회: 키셋으로 고른 이미지 ID 들만 같은 형태로 조회
+    @Query("SELECT i.id AS id, i.imageURL AS imageURL, i.ImageName AS fileName, " +
+           "i.createDateTime AS createDateTime, i.index AS imageIndex, i.isShow AS isShow, i.isBasic AS isBasic, " +
+           "i.width AS width, i.variantWidths AS variantWidths, " +
+           "p.projectName AS projectName, p.description AS description, " +
+           "it.tag.id AS tagId " +
+           "FROM Images_Info i " +
+           "LEFT JOIN i.project p " +
+           "LEFT JOIN i.imageTags it " +
+           "WHERE i.id IN :ids " +
+           "ORDER BY i.index ASC, i.id ASC, it.id ASC")
+    List<GalleryImageRow> findGalleryRowsByIds(@Param("ids") List<Long> ids);
+
+    // 프로젝트별 대표 이미지: isBasic 우선, 그다음 index, id 가 가장 작은 이미지 (프로젝트당 1행)
+    @Query(value = "SELECT DISTINCT ON (i.project_id) i.project_id AS \"projectId\", i.imageurl AS \"imageURL\" " +
+                   "FROM images_info i " +
+                   "WHERE i.project_id IS NOT NULL " +
+                   "ORDER BY i.project_id, i.is_basic DESC, i.index ASC, i.id ASC",
+           nativeQuery = true)
+    List<ProjectCoverRow> findProjectCovers();
+
+    // 단일 프로젝트 대표 이미지 (findProjectCovers 와 같은 선택 기준)
+    @Query(value = "SELECT i.imageurl FROM images_info i " +
+                   "WHERE i.project_id = :projectId " +
+                   "ORDER BY i.is_basic DESC, i.index ASC, i.id ASC " +
+                   "LIMIT 1",
+           nativeQuery = true)
+    Optional<String> findProjectCoverImageURL(@Param("projectId") Long projectId);
+
+    // 존재하는 이미지 ID 만 조회 (일괄 연결 전 검증용, 엔티티 로딩 없음)
+    @Query("SELECT i.id FROM Images_Info i WHERE i.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // 프로젝트 연결/해제 일괄 처리 (이미지 수와 관계없이 UPDATE 한 번)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Images_Info i SET i.project = :project WHERE i.id IN :ids")
+    int assignProject(@Param("project") Project project, @Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Images_Info i SET i.project = null WHERE i.project.id = :projectId")
+    int detachAllFromProject(@Param("projectId") Long projectId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Images_Info i SET i.project = null WHERE i.project.id = :projectId AND i.id IN :ids")
+    int detachFromProject(@Param("projectId") Long projectId, @Param("ids") Collection<Long> ids);
+
+    // 업로드 파일 ETag 용 콘텐츠 해시 조회
+    @Query("SELECT i.contentHash FROM Images_Info i WHERE i.imageURL = :imageURL")
+    List<String> findContentHashesByImageURL(@Param("imageURL") String imageURL);
+
+    // 파생 이미지 생성 결과 기록 (비동기 생성 완료 시점에 엔티티 로딩 없이 갱신)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Images_Info i SET i.width = :width, i.height = :height, i.variantWidths = :variantWidths " +
+           "WHERE i.id = :id")
+    int updateDerivatives(@Param("id") Long id,
+                          @Param("width") Integer width,
+                          @Param("height") Integer height,
+                          @Param("variantWidths") String variantWidths);
 }
@@ -0,0 +1,17 @@
+package com.ondoproject.repository;
+
+import com.ondoproject.repository.projection.OrderRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ImageRepositoryCustom extends OrderIndexRepository {
+
+    // 갤러리 키셋 페이지 조회: (index, id) 순서로 커서 다음 이미지의 (id, index) 를 limit 개 조회 (null 필터는 무시)
+    List<OrderRow> findGalleryPageKeys(Boolean isShow, Boolean isBasic, Long projectId, Long tagId,
+                                   Integer afterIndex, Long afterId, int limit);
+
+    // 갤러리 순서(index, id)로 요청한 필드만 조회 (필드 이름은 ImagesDTO 의 JSON 키, width/variantWidths 는 srcset 계산용)
+    List<Map<String, Object>> findGalleryFields(Collection<String> fields);
+}
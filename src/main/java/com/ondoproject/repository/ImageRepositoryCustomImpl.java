@@ -0,0 +1,104 @@
+package com.ondoproject.repository;
+
+import com.ondoproject.repository.projection.OrderRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ImageRepositoryCustomImpl implements ImageRepositoryCustom {
+
+    private static final Map<String, String> GALLERY_FIELD_PATHS = Map.ofEntries(
+            Map.entry("id", "i.id"),
+            Map.entry("imageURL", "i.imageURL"),
+            Map.entry("fileName", "i.ImageName"),
+            Map.entry("createDateTime", "i.createDateTime"),
+            Map.entry("projectName", "p.projectName"),
+            Map.entry("description", "p.description"),
+            Map.entry("index", "i.index"),
+            Map.entry("show", "i.isShow"),
+            Map.entry("basic", "i.isBasic"),
+            Map.entry("width", "i.width"),
+            Map.entry("variantWidths", "i.variantWidths"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 사용된 필터만 WHERE 절에 넣어 (is_show/is_basic/project_id, index, id) 인덱스를 그대로 탈 수 있게 한다
+    @Override
+    public List<OrderRow> findGalleryPageKeys(Boolean isShow, Boolean isBasic, Long projectId, Long tagId,
+                                              Integer afterIndex, Long afterId, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new HashMap<>();
+
+        if (isShow != null) {
+            conditions.add("i.isShow = :isShow");
+            parameters.put("isShow", isShow);
+        }
+        if (isBasic != null) {
+            conditions.add("i.isBasic = :isBasic");
+            parameters.put("isBasic", isBasic);
+        }
+        if (projectId != null) {
+            conditions.add("i.project.id = :projectId");
+            parameters.put("projectId", projectId);
+        }
+        if (tagId != null) {
+            conditions.add("EXISTS (SELECT 1 FROM ImageTag it WHERE it.imagesInfo.id = i.id AND it.tag.id = :tagId)");
+            parameters.put("tagId", tagId);
+        }
+        if (afterIndex != null && afterId != null) {
+            // 키셋 조건: 행 값 비교로 써야 (…, index, id) 인덱스의 범위 시작점이 되어 깊은 페이지도 비용이 같다
+            // (OR 로 풀어 쓰면 인덱스를 처음부터 훑거나 BitmapOr 후 정렬한다)
+            conditions.add("(i.index, i.id) > (:afterIndex, :afterId)");
+            parameters.put("afterIndex", afterIndex);
+            parameters.put("afterId", afterId);
+        }
+
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.ondoproject.repository.projection.OrderRow(i.id, i.index) FROM Images_Info i");
+        if (!conditions.isEmpty()) {
+            jpql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        jpql.append(" ORDER BY i.index ASC, i.id ASC");
+
+        TypedQuery<OrderRow> query = entityManager.createQuery(jpql.toString(), OrderRow.class);
+        parameters.forEach(query::setParameter);
+        query.setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    // 프로젝트 필드를 요청하지 않으면 조인하지 않는다
+    @Override
+    public List<Map<String, Object>> findGalleryFields(Collection<String> fields) {
+        boolean joinProject = fields.contains("projectName") || fields.contains("description");
+        return FieldSetQueries.select(entityManager, GALLERY_FIELD_PATHS, fields,
+                joinProject ? "Images_Info i LEFT JOIN i.project p" : "Images_Info i",
+                null, "i.index ASC, i.id ASC");
+    }
+
+    @Override
+    public List<OrderRow> findOrderRows() {
+        return OrderIndexQueries.findOrderRows(entityManager, "Images_Info", null, 0, 0);
+    }
+
+    @Override
+    public List<OrderRow> findOrderRows(Long excludeId, int offset, int limit) {
+        return OrderIndexQueries.findOrderRows(entityManager, "Images_Info", excludeId, offset, limit);
+    }
+
+    @Override
+    public Integer findMaxIndex() {
+        return OrderIndexQueries.findMaxIndex(entityManager, "Images_Info");
+    }
+
+    @Override
+    public int updateIndexes(Map<Long, Integer> indexes) {
+        return OrderIndexQueries.updateIndexes(entityManager, "images_info", indexes);
+    }
+}
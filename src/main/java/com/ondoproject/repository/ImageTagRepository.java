@@ -3,6 +3,12 @@ package com.ondoproject.repository;
 import com.ondoproject.domain.project.ImageTag;
 import com.ondoproject.domain.project.Images_Info;
 import com.ondoproject.domain.tag.Tag;
+import com.ondoproject.dto.imagetag.ImageTagResponse;
+import com.ondoproject.dto.imagetag.TaggedImageResponse;
+import com.ondoproject.repository.projection.ImageTagPair;
+import com.ondoproject.repository.projection.TagUsageRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,10 +16,11 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ImageTagRepository extends JpaRepository<ImageTag, Long> {
+public interface ImageTagRepository extends JpaRepository<ImageTag, Long>, ImageTagRepositoryCustom {
     
     // 특정 이미지의 모든 태그 조회
     List<ImageTag> findByImagesInfo(Images_Info imagesInfo);
@@ -35,6 +42,35 @@ public interface ImageTagRepository extends JpaRepository<ImageTag, Long> {
     @Query("SELECT it FROM ImageTag it WHERE it.tag.id = :tagId")
     List<ImageTag> findByTagId(@Param("tagId") Long tagId);
     
+    // 특정 태그의 이미지 페이지 (이미지/프로젝트를 조인해 DTO 로 바로 조회)
+    @Query(value = "SELECT new com.ondoproject.dto.imagetag.TaggedImageResponse(" +
+                   "i.id, i.imageURL, i.ImageName, i.isShow, i.isBasic, i.index, p.id, p.projectName, it.createDateTime) " +
+                   "FROM ImageTag it " +
+                   "JOIN it.imagesInfo i " +
+                   "LEFT JOIN i.project p " +
+                   "WHERE it.tag.id = :tagId " +
+                   "ORDER BY i.index ASC, i.id ASC",
+           countQuery = "SELECT COUNT(it) FROM ImageTag it WHERE it.tag.id = :tagId")
+    Page<TaggedImageResponse> findImagePageByTagId(@Param("tagId") Long tagId, Pageable pageable);
+
+    // 전체 이미지-태그 연결 페이지 (태그 이름까지 한 번의 쿼리로 조회)
+    @Query(value = "SELECT new com.ondoproject.dto.imagetag.ImageTagResponse(" +
+                   "it.id, it.imagesInfo.id, t.id, t.tagName, it.createDateTime) " +
+                   "FROM ImageTag it " +
+                   "JOIN it.tag t " +
+                   "ORDER BY it.id ASC",
+           countQuery = "SELECT COUNT(it) FROM ImageTag it")
+    Page<ImageTagResponse> findResponsePage(Pageable pageable);
+
+    // 태그 사용 여부 / 연결된 이미지 수 (ImageTag 엔티티를 로딩하지 않음)
+    boolean existsByTagId(Long tagId);
+
+    long countByTagId(Long tagId);
+
+    // 태그별 연결된 이미지 수 (연결이 없는 태그는 결과에 없음)
+    @Query("SELECT it.tag.id AS tagId, COUNT(it) AS imageCount FROM ImageTag it GROUP BY it.tag.id")
+    List<TagUsageRow> countImagesGroupByTag();
+
     // 특정 이미지와 태그의 연결 관계 존재 여부 확인
     boolean existsByImagesInfoAndTag(Images_Info imagesInfo, Tag tag);
     
@@ -52,4 +88,22 @@ public interface ImageTagRepository extends JpaRepository<ImageTag, Long> {
     
     // 특정 태그의 모든 이미지 연결 삭제
     void deleteByTag(Tag tag);
+
+    // 전체 이미지-태그 ID 쌍 (연결 순서)
+    @Query("SELECT new com.ondoproject.repository.projection.ImageTagPair(it.imagesInfo.id, it.tag.id) " +
+           "FROM ImageTag it ORDER BY it.id ASC")
+    List<ImageTagPair> findAllPairs();
+
+    // 요청된 이미지 x 태그 조합 중 이미 연결된 것들 (한 번의 쿼리)
+    @Query("SELECT new com.ondoproject.repository.projection.ImageTagPair(it.imagesInfo.id, it.tag.id) " +
+           "FROM ImageTag it " +
+           "WHERE it.imagesInfo.id IN :imageIds AND it.tag.id IN :tagIds")
+    List<ImageTagPair> findPairs(@Param("imageIds") Collection<Long> imageIds,
+                                 @Param("tagIds") Collection<Long> tagIds);
+
+    // 이미지 x 태그 조합 연결 일괄 삭제
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ImageTag it WHERE it.imagesInfo.id IN :imageIds AND it.tag.id IN :tagIds")
+    int deletePairs(@Param("imageIds") Collection<Long> imageIds,
+                    @Param("tagIds") Collection<Long> tagIds);
 }
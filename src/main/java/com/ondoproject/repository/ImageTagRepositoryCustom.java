@@ -0,0 +1,11 @@
+package com.ondoproject.repository;
+
+import com.ondoproject.repository.projection.ImageTagPair;
+
+import java.util.Collection;
+
+public interface ImageTagRepositoryCustom {
+
+    // 연결을 묶음 단위 INSERT 로 추가 (이미 있는 조합은 unique 제약으로 건너뜀), 추가된 행 수 반환
+    int insertPairs(Collection<ImageTagPair> pairs, String createDateTime);
+}
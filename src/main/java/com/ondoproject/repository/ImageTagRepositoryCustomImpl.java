@@ -0,0 +1,54 @@
+package com.ondoproject.repository;
+
+import com.ondoproject.repository.projection.ImageTagPair;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class ImageTagRepositoryCustomImpl implements ImageTagRepositoryCustom {
+    private static final int BATCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertPairs(Collection<ImageTagPair> pairs, String createDateTime) {
+        if (pairs.isEmpty()) {
+            return 0;
+        }
+        entityManager.flush();
+        List<ImageTagPair> pending = new ArrayList<>(pairs);
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            // 묶음마다 배열 파라미터로 한 번의 INSERT (묶음당 왕복 1회, 추가된 행 수를 정확히 반환)
+            // 이미 연결된 조합은 NOT EXISTS 로 거르고, 동시 요청 충돌만 ON CONFLICT 로 흡수한다
+            // (충돌 대상을 지정하지 않으므로 기존 DB 에 유니크 인덱스가 아직 없어도 실패하지 않음)
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO image_tag (images_info_id, tag_id, create_date_time) " +
+                    "SELECT DISTINCT pair.image_id, pair.tag_id, ?::varchar FROM unnest(?::bigint[], ?::bigint[]) AS pair(image_id, tag_id) " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM image_tag it " +
+                    "WHERE it.images_info_id = pair.image_id AND it.tag_id = pair.tag_id) " +
+                    "ON CONFLICT DO NOTHING")) {
+                int inserted = 0;
+                for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+                    List<ImageTagPair> chunk = pending.subList(from, Math.min(pending.size(), from + BATCH_SIZE));
+                    Long[] imageIds = new Long[chunk.size()];
+                    Long[] tagIds = new Long[chunk.size()];
+                    for (int i = 0; i < chunk.size(); i++) {
+                        imageIds[i] = chunk.get(i).imageId();
+                        tagIds[i] = chunk.get(i).tagId();
+                    }
+                    statement.setString(1, createDateTime);
+                    statement.setArray(2, connection.createArrayOf("bigint", imageIds));
+                    statement.setArray(3, connection.createArrayOf("bigint", tagIds));
+                    inserted += statement.executeUpdate();
+                }
+                return inserted;
+            }
+        });
+    }
+}
@@ -1,29 +1,85 @@
 package com.ondoproject.repository;
 
 import com.ondoproject.domain.news.News;
+import com.ondoproject.repository.projection.NewsListView;
+import com.ondoproject.repository.projection.NewsSearchRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
-public interface NewsRepository extends JpaRepository<News, Long> {
+public interface NewsRepository extends JpaRepository<News, Long>, NewsRepositoryCustom {
     
+    // 목록 조회는 모두 NewsListView 프로젝션으로 목록 컬럼만 조회 (TEXT 본문을 읽지 않음)
+
     // 발행된 뉴스만 조회
-    List<News> findByIsPublishedTrueOrderByCreatedAtDesc();
+    List<NewsListView> findByIsPublishedTrueOrderByCreatedAtDesc();
     
     // 발행된 뉴스 페이징 조회
-    Page<News> findByIsPublishedTrueOrderByCreatedAtDesc(Pageable pageable);
+    Page<NewsListView> findByIsPublishedTrueOrderByCreatedAtDesc(Pageable pageable);
     
     // 제목으로 검색 (발행된 뉴스만)
-    @Query("SELECT n FROM News n WHERE n.isPublished = true AND n.title LIKE %:title% ORDER BY n.createdAt DESC")
-    List<News> findByTitleContainingAndIsPublishedTrue(@Param("title") String title);
+    @Query("SELECT n.id AS id, n.title AS title, n.summary AS summary, n.imageURL AS imageURL, " +
+           "n.createdAt AS createdAt, n.updatedAt AS updatedAt, n.isPublished AS isPublished, n.author AS author " +
+           "FROM News n WHERE n.isPublished = true AND n.title LIKE %:title% ORDER BY n.createdAt DESC")
+    List<NewsListView> findByTitleContainingAndIsPublishedTrue(@Param("title") String title);
     
     // 작성자로 검색 (발행된 뉴스만)
-    List<News> findByAuthorContainingAndIsPublishedTrueOrderByCreatedAtDesc(String author);
+    List<NewsListView> findByAuthorContainingAndIsPublishedTrueOrderByCreatedAtDesc(String author);
     
+    // 키셋 피드 (ORDER BY createdAt DESC, id DESC, News 의 idx_news_published_created_id 인덱스 사용)
+    // 다음 페이지 조건은 행 값 비교로 써서 인덱스 범위가 커서 위치에서 바로 시작하도록 한다
+    @Query("SELECT n.id AS id, n.title AS title, n.summary AS summary, n.imageURL AS imageURL, " +
+           "n.createdAt AS createdAt, n.updatedAt AS updatedAt, n.isPublished AS isPublished, n.author AS author " +
+           "FROM News n WHERE n.isPublished = true " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsListView> findPublishedFeed(Limit limit);
+
+    @Query("SELECT n.id AS id, n.title AS title, n.summary AS summary, n.imageURL AS imageURL, " +
+           "n.createdAt AS createdAt, n.updatedAt AS updatedAt, n.isPublished AS isPublished, n.author AS author " +
+           "FROM News n WHERE n.isPublished = true " +
+           "AND (n.createdAt, n.id) < (:createdAt, :id) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NewsListView> findPublishedFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    long countByIsPublishedTrue();
+
     // 모든 뉴스 조회 (관리자용)
-    List<News> findAllByOrderByCreatedAtDesc();
+    List<NewsListView> findAllByOrderByCreatedAtDesc();
+
+    // 전문 검색 (schema.sql 의 news.search_vector + GIN 인덱스 사용)
+    // tsQuery 는 to_tsquery('simple') 문법 ("단어:* & 단어:*"), 하이라이트는 잘라낸 페이지 행에만 계산
+    // 하이라이트 결과는 HTML 로 삽입되므로 원문의 & < > 를 먼저 이스케이프하고 <mark> 만 태그로 남긴다
+    @Query(value = "SELECT r.id AS \"id\", r.title AS \"title\", r.imageurl AS \"imageURL\", " +
+                   "r.author AS \"author\", r.created_at AS \"createdAt\", r.rank AS \"rank\", " +
+                   "ts_headline('simple', replace(replace(replace(r.title, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), r.q, " +
+                   "'HighlightAll=true, StartSel=<mark>, StopSel=</mark>') AS \"titleHighlight\", " +
+                   "ts_headline('simple', replace(replace(replace(coalesce(nullif(r.summary, ''), r.contents, ''), " +
+                   "'&', '&amp;'), '<', '&lt;'), '>', '&gt;'), r.q, " +
+                   "'StartSel=<mark>, StopSel=</mark>, MaxWords=35, MinWords=15, MaxFragments=2') AS \"snippet\" " +
+                   "FROM (" +
+                   "  SELECT n.id, n.title, n.summary, n.contents, n.imageurl, n.author, n.created_at, q.q, " +
+                   "         ts_rank_cd(n.search_vector, q.q)::float8 AS rank " +
+                   "  FROM news n, to_tsquery('simple', :tsQuery) AS q(q) " +
+                   "  WHERE n.is_published = true AND n.search_vector @@ q.q " +
+                   "  ORDER BY rank DESC, n.created_at DESC, n.id DESC " +
+                   "  LIMIT :limit OFFSET :offset" +
+                   ") r " +
+                   "ORDER BY r.rank DESC, r.created_at DESC, r.id DESC",
+           nativeQuery = true)
+    List<NewsSearchRow> searchPublished(@Param("tsQuery") String tsQuery,
+                                        @Param("limit") int limit,
+                                        @Param("offset") long offset);
+
+    @Query(value = "SELECT count(*) FROM news n " +
+                   "WHERE n.is_published = true AND n.search_vector @@ to_tsquery('simple', :tsQuery)",
+           nativeQuery = true)
+    long countSearchPublished(@Param("tsQuery") String tsQuery);
 }
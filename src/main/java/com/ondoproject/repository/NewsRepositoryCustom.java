@@ -0,0 +1,11 @@
+package com.ondoproject.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface NewsRepositoryCustom {
+
+    // 발행된 뉴스를 최신순으로, 요청한 필드만 조회 (필드 이름은 NewsListResponse 의 JSON 키)
+    List<Map<String, Object>> findPublishedFields(Collection<String> fields);
+}
@@ -0,0 +1,30 @@
+package com.ondoproject.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class NewsRepositoryCustomImpl implements NewsRepositoryCustom {
+
+    private static final Map<String, String> FIELD_PATHS = Map.of(
+            "id", "n.id",
+            "title", "n.title",
+            "summary", "n.summary",
+            "imageURL", "n.imageURL",
+            "createdAt", "n.createdAt",
+            "updatedAt", "n.updatedAt",
+            "isPublished", "n.isPublished",
+            "author", "n.author");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findPublishedFields(Collection<String> fields) {
+        return FieldSetQueries.select(entityManager, FIELD_PATHS, fields,
+                "News n", "n.isPublished = true", "n.createdAt DESC, n.id DESC");
+    }
+}
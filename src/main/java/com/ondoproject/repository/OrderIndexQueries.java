@@ -0,0 +1,83 @@
+package com.ondoproject.repository;
+
+import com.ondoproject.repository.projection.OrderRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OrderIndexRepository 구현 공통 쿼리 (엔티티 이름 / 테이블 이름만 다르다).
+ */
+final class OrderIndexQueries {
+    private static final int BATCH_SIZE = 100;
+
+    private OrderIndexQueries() {
+    }
+
+    static List<OrderRow> findOrderRows(EntityManager entityManager, String entityName,
+                                        Long excludeId, int offset, int limit) {
+        String jpql = "SELECT new com.ondoproject.repository.projection.OrderRow(e.id, e.index) FROM " + entityName + " e" +
+                (excludeId != null ? " WHERE e.id <> :excludeId" : "") +
+                " ORDER BY e.index ASC, e.id ASC";
+        TypedQuery<OrderRow> query = entityManager.createQuery(jpql, OrderRow.class);
+        if (excludeId != null) {
+            query.setParameter("excludeId", excludeId);
+        }
+        if (offset > 0) {
+            query.setFirstResult(offset);
+        }
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    static Integer findMaxIndex(EntityManager entityManager, String entityName) {
+        return entityManager.createQuery("SELECT MAX(e.index) FROM " + entityName + " e", Integer.class)
+                .getSingleResult();
+    }
+
+    static int updateIndexes(EntityManager entityManager, String tableName, Map<Long, Integer> indexes) {
+        if (indexes.isEmpty()) {
+            return 0;
+        }
+        // 영속성 컨텍스트에 남아 있는 변경을 먼저 내보낸 뒤 배치 실행
+        entityManager.flush();
+        int updated = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + tableName + " SET index = ? WHERE id = ?")) {
+                int total = 0;
+                int pending = 0;
+                for (Map.Entry<Long, Integer> entry : indexes.entrySet()) {
+                    statement.setInt(1, entry.getValue());
+                    statement.setLong(2, entry.getKey());
+                    statement.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        total += sum(statement.executeBatch());
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    total += sum(statement.executeBatch());
+                }
+                return total;
+            }
+        });
+        // 배치 UPDATE 는 영속성 컨텍스트를 거치지 않으므로 남아 있는 엔티티는 비운다
+        entityManager.clear();
+        return updated;
+    }
+
+    // executeBatch 결과 합계 (SUCCESS_NO_INFO 등 음수는 제외)
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+}
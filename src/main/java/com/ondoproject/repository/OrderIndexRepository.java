@@ -0,0 +1,24 @@
+package com.ondoproject.repository;
+
+import com.ondoproject.repository.projection.OrderRow;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * index 컬럼으로 정렬되는 엔티티의 정렬 키 조회/갱신 (ORDER BY index, id 기준).
+ */
+public interface OrderIndexRepository {
+
+    // 전체 정렬 상태
+    List<OrderRow> findOrderRows();
+
+    // excludeId 를 뺀 정렬 순서에서 offset 번째부터 limit 개 (이동 대상 위치의 앞뒤 이웃 조회용)
+    List<OrderRow> findOrderRows(Long excludeId, int offset, int limit);
+
+    // 현재 가장 큰 index (행이 없으면 null, 목록 끝에 추가할 키 계산용)
+    Integer findMaxIndex();
+
+    // ID -> 새 index 를 JDBC 배치 UPDATE 로 반영 (현재 트랜잭션의 커넥션 사용)
+    int updateIndexes(Map<Long, Integer> indexes);
+}
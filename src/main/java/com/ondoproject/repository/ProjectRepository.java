@@ -5,6 +5,6 @@ import com.ondoproject.domain.project.Project;
 
 import java.util.List;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
     List<Project> findAllByOrderByIndexAsc();
 }
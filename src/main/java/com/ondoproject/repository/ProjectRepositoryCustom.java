@@ -0,0 +1,11 @@
+package com.ondoproject.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProjectRepositoryCustom extends OrderIndexRepository {
+
+    // 프로젝트 순서(index)로 요청한 필드만 조회 (필드 이름은 ProjectResponseWithProjectImage 의 JSON 키)
+    List<Map<String, Object>> findProjectFields(Collection<String> fields);
+}
@@ -0,0 +1,52 @@
+package com.ondoproject.repository;
+
+import com.ondoproject.repository.projection.OrderRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    private static final Map<String, String> FIELD_PATHS = Map.of(
+            "id", "p.id",
+            "projectName", "p.projectName",
+            "description", "p.description",
+            "available", "p.isAvailable",
+            "createdDateTime", "p.CreatedDateTime",
+            "duration", "p.duration",
+            "grossFloorArea", "p.grossFloorArea",
+            "client", "p.client",
+            "architect", "p.architect",
+            "index", "p.index");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findProjectFields(Collection<String> fields) {
+        return FieldSetQueries.select(entityManager, FIELD_PATHS, fields, "Project p", null, "p.index ASC, p.id ASC");
+    }
+
+    @Override
+    public List<OrderRow> findOrderRows() {
+        return OrderIndexQueries.findOrderRows(entityManager, "Project", null, 0, 0);
+    }
+
+    @Override
+    public List<OrderRow> findOrderRows(Long excludeId, int offset, int limit) {
+        return OrderIndexQueries.findOrderRows(entityManager, "Project", excludeId, offset, limit);
+    }
+
+    @Override
+    public Integer findMaxIndex() {
+        return OrderIndexQueries.findMaxIndex(entityManager, "Project");
+    }
+
+    @Override
+    public int updateIndexes(Map<Long, Integer> indexes) {
+        return OrderIndexQueries.updateIndexes(entityManager, "project", indexes);
+    }
+}
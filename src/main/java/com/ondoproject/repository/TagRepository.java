@@ -2,8 +2,12 @@ package com.ondoproject.repository;
 
 import com.ondoproject.domain.tag.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
     // 태그명으로 존재 여부 확인
@@ -14,4 +18,22 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     
     // 태그명으로 태그 찾기
     Tag findByTagName(String tagName);
+
+    // 태그명 검색 (대소문자 무시): 정확히 일치 > 접두어 일치 > 부분 일치, 짧은 이름 순으로 limit 개
+    // query 는 소문자로 변환하고 LIKE 와일드카드를 이스케이프한 값
+    // 접두어 일치는 pattern_ops 인덱스, 나머지 부분 일치는 trigram 인덱스로 각각 limit 개까지만 찾아 합친다 (schema.sql)
+    @Query(value = "SELECT t.* FROM (" +
+                   "  (SELECT p.* FROM tag p WHERE lower(p.tag_name) LIKE :query || '%' " +
+                   "   ORDER BY (lower(p.tag_name) = :query) DESC, length(p.tag_name) ASC, p.tag_name ASC LIMIT :limit) " +
+                   "  UNION ALL " +
+                   "  (SELECT s.* FROM tag s WHERE lower(s.tag_name) LIKE '%' || :query || '%' " +
+                   "   AND lower(s.tag_name) NOT LIKE :query || '%' " +
+                   "   ORDER BY length(s.tag_name) ASC, s.tag_name ASC LIMIT :limit)" +
+                   ") t " +
+                   "ORDER BY (lower(t.tag_name) = :query) DESC, " +
+                   "(lower(t.tag_name) LIKE :query || '%') DESC, " +
+                   "length(t.tag_name) ASC, t.tag_name ASC " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<Tag> searchByName(@Param("query") String query, @Param("limit") int limit);
 }
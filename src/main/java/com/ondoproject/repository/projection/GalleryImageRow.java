@@ -0,0 +1,20 @@
+package com.ondoproject.repository.projection;
+
+/**
+ * 갤러리 조회용 평면 행 (이미지 + 프로젝트 이름/설명 + 태그 ID 1개).
+ * 태그가 여러 개인 이미지는 태그 수만큼 행이 나오며, 태그가 없으면 tagId 가 null 이다.
+ */
+public interface GalleryImageRow {
+    Long getId();
+    String getImageURL();
+    String getFileName();
+    String getCreateDateTime();
+    Integer getImageIndex();
+    Boolean getIsShow();
+    Boolean getIsBasic();
+    Integer getWidth();
+    String getVariantWidths();
+    String getProjectName();
+    String getDescription();
+    Long getTagId();
+}
@@ -0,0 +1,7 @@
+package com.ondoproject.repository.projection;
+
+/**
+ * 이미지-태그 연결 (이미지 ID, 태그 ID).
+ */
+public record ImageTagPair(Long imageId, Long tagId) {
+}
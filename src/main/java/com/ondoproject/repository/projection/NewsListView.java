@@ -0,0 +1,17 @@
+package com.ondoproject.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 목록용 컬럼 (본문 contents 는 읽지 않는다).
+ */
+public interface NewsListView {
+    Long getId();
+    String getTitle();
+    String getSummary();
+    String getImageURL();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Boolean getIsPublished();
+    String getAuthor();
+}
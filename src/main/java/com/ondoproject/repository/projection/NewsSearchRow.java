@@ -0,0 +1,17 @@
+package com.ondoproject.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 뉴스 전문 검색 결과 1행 (관련도 순, 하이라이트 포함).
+ */
+public interface NewsSearchRow {
+    Long getId();
+    String getTitle();
+    String getTitleHighlight();
+    String getSnippet();
+    String getImageURL();
+    String getAuthor();
+    LocalDateTime getCreatedAt();
+    Double getRank();
+}
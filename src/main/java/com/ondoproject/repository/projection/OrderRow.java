@@ -0,0 +1,7 @@
+package com.ondoproject.repository.projection;
+
+/**
+ * 정렬 키 상태 (엔티티 ID + index).
+ */
+public record OrderRow(Long id, Integer orderIndex) {
+}
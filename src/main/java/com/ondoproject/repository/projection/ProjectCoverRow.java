@@ -0,0 +1,9 @@
+package com.ondoproject.repository.projection;
+
+/**
+ * 프로젝트 대표 이미지 (프로젝트당 1행).
+ */
+public interface ProjectCoverRow {
+    Long getProjectId();
+    String getImageURL();
+}
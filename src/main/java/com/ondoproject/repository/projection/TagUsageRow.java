@@ -0,0 +1,9 @@
+package com.ondoproject.repository.projection;
+
+/**
+ * 태그별 연결된 이미지 수.
+ */
+public interface TagUsageRow {
+    Long getTagId();
+    Long getImageCount();
+}
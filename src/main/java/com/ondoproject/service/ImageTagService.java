@@ -3,14 +3,27 @@ package com.ondoproject.service;
 import com.ondoproject.domain.project.ImageTag;
 import com.ondoproject.domain.project.Images_Info;
 import com.ondoproject.domain.tag.Tag;
+import com.ondoproject.dto.imagetag.ImageTagBulkResponse;
+import com.ondoproject.dto.imagetag.ImageTagResponse;
+import com.ondoproject.dto.imagetag.TaggedImageResponse;
+import com.ondoproject.event.GalleryChangedEvent;
 import com.ondoproject.repository.ImageTagRepository;
 import com.ondoproject.repository.ImageRepository;
 import com.ondoproject.repository.TagRepository;
+import com.ondoproject.repository.projection.ImageTagPair;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,6 +34,7 @@ public class ImageTagService {
     private final ImageTagRepository imageTagRepository;
     private final ImageRepository imageRepository;
     private final TagRepository tagRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 이미지와 태그 연결
@@ -38,7 +52,50 @@ public class ImageTagService {
         }
 
         ImageTag imageTag = ImageTag.createImageTag(image, tag);
-        return imageTagRepository.save(imageTag);
+        ImageTag savedImageTag = imageTagRepository.save(imageTag);
+        eventPublisher.publishEvent(new GalleryChangedEvent("image tag linked"));
+        return savedImageTag;
+    }
+
+    /**
+     * 여러 이미지 x 여러 태그 일괄 연결 (이미 연결된 조합은 건너뜀)
+     */
+    public ImageTagBulkResponse linkImagesToTags(List<Long> imageIds, List<Long> tagIds) {
+        Set<Long> images = validateImageIds(imageIds);
+        Set<Long> tags = validateTagIds(tagIds);
+        int requested = images.size() * tags.size();
+
+        Set<ImageTagPair> existing = new HashSet<>(imageTagRepository.findPairs(images, tags));
+        List<ImageTagPair> missing = new ArrayList<>();
+        for (Long imageId : images) {
+            for (Long tagId : tags) {
+                ImageTagPair pair = new ImageTagPair(imageId, tagId);
+                if (!existing.contains(pair)) {
+                    missing.add(pair);
+                }
+            }
+        }
+
+        int inserted = imageTagRepository.insertPairs(missing, LocalDateTime.now().toString());
+        if (inserted > 0) {
+            eventPublisher.publishEvent(new GalleryChangedEvent("image tags linked"));
+        }
+        return new ImageTagBulkResponse(requested, inserted, requested - inserted);
+    }
+
+    /**
+     * 여러 이미지 x 여러 태그 일괄 연결 해제
+     */
+    public ImageTagBulkResponse unlinkImagesFromTags(List<Long> imageIds, List<Long> tagIds) {
+        Set<Long> images = validateImageIds(imageIds);
+        Set<Long> tags = validateTagIds(tagIds);
+        int requested = images.size() * tags.size();
+
+        int deleted = imageTagRepository.deletePairs(images, tags);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new GalleryChangedEvent("image tags unlinked"));
+        }
+        return new ImageTagBulkResponse(requested, deleted, requested - deleted);
     }
 
     /**
@@ -52,6 +109,7 @@ public class ImageTagService {
                 .orElseThrow(() -> new RuntimeException("Tag not found with id: " + tagId));
 
         imageTagRepository.deleteByImagesInfoAndTag(image, tag);
+        eventPublisher.publishEvent(new GalleryChangedEvent("image tag unlinked"));
     }
 
     /**
@@ -66,14 +124,11 @@ public class ImageTagService {
     }
 
     /**
-     * 특정 태그의 모든 이미지 조회
+     * 특정 태그의 이미지 페이지 조회 (DTO 프로젝션, 쿼리 한 번 + 개수 쿼리)
      */
     @Transactional(readOnly = true)
-    public List<Images_Info> getImagesByTagId(Long tagId) {
-        return imageTagRepository.findByTagId(tagId)
-                .stream()
-                .map(ImageTag::getImagesInfo)
-                .collect(Collectors.toList());
+    public Page<TaggedImageResponse> getImagesByTagId(Long tagId, Pageable pageable) {
+        return imageTagRepository.findImagePageByTagId(tagId, pageable);
     }
 
     /**
@@ -84,6 +139,7 @@ public class ImageTagService {
                 .orElseThrow(() -> new RuntimeException("Image not found with id: " + imageId));
         
         imageTagRepository.deleteByImagesInfo(image);
+        eventPublisher.publishEvent(new GalleryChangedEvent("image tags cleared"));
     }
 
     /**
@@ -94,13 +150,41 @@ public class ImageTagService {
                 .orElseThrow(() -> new RuntimeException("Tag not found with id: " + tagId));
         
         imageTagRepository.deleteByTag(tag);
+        eventPublisher.publishEvent(new GalleryChangedEvent("tag images cleared"));
     }
 
     /**
-     * 모든 이미지-태그 연결 조회
+     * 이미지-태그 연결 페이지 조회 (DTO 프로젝션)
      */
     @Transactional(readOnly = true)
-    public List<ImageTag> getAllImageTags() {
-        return imageTagRepository.findAll();
+    public Page<ImageTagResponse> getAllImageTags(Pageable pageable) {
+        return imageTagRepository.findResponsePage(pageable);
+    }
+
+    // 이미지 ID 존재 여부를 한 번의 쿼리로 확인 (없는 ID 는 모아서 알림)
+    private Set<Long> validateImageIds(List<Long> imageIds) {
+        if (imageIds == null || imageIds.isEmpty()) {
+            throw new RuntimeException("imageIds is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>(imageIds);
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        imageRepository.findExistingIds(ids).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Images not found with ids: " + missing);
+        }
+        return ids;
+    }
+
+    private Set<Long> validateTagIds(List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            throw new RuntimeException("tagIds is required");
+        }
+        Set<Long> ids = new LinkedHashSet<>(tagIds);
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        tagRepository.findAllById(ids).forEach(tag -> missing.remove(tag.getId()));
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Tags not found with ids: " + missing);
+        }
+        return ids;
     }
 }
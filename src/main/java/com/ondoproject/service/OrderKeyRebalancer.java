@@ -0,0 +1,35 @@
+package com.ondoproject.service;
+
+import com.ondoproject.service.image.ImageOrderService;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이미지/프로젝트 정렬 키의 동점이나 소진된 간격을 주기적으로 정리한다.
+ * 정리가 필요 없으면 (id, index) 조회 한 번으로 끝난다.
+ */
+@Component
+@AllArgsConstructor
+public class OrderKeyRebalancer {
+    private static final Logger log = LoggerFactory.getLogger(OrderKeyRebalancer.class);
+
+    private final ImageOrderService imageOrderService;
+    private final ProjectService projectService;
+
+    @Scheduled(initialDelayString = "${ondo.ordering.rebalance-initial-delay:PT1M}",
+               fixedDelayString = "${ondo.ordering.rebalance-interval:PT1H}")
+    public void rebalance() {
+        try {
+            int images = imageOrderService.rebalance();
+            int projects = projectService.rebalanceOrder();
+            if (images > 0 || projects > 0) {
+                log.info("정렬 키 재배치: 이미지 {}개, 프로젝트 {}개", images, projects);
+            }
+        } catch (RuntimeException e) {
+            log.warn("정렬 키 재배치 실패: {}", e.getMessage());
+        }
+    }
+}
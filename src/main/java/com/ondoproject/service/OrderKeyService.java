@@ -0,0 +1,164 @@
+package com.ondoproject.service;
+
+import com.ondoproject.repository.OrderIndexRepository;
+import com.ondoproject.repository.projection.OrderRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 간격(gap)을 둔 정렬 키 관리 (Images_Info.index, Project.index 공용, ORDER BY index, id 기준).
+ * - 전체 순서 지정 시 위치 * gap 으로 다시 매긴다.
+ * - 단일 이동은 앞뒤 이웃 키의 중간값을 사용해 이동한 한 행만 갱신한다.
+ *   이웃 사이에 빈 값이 없으면 그때만 전체를 다시 매긴다.
+ * - 동점/간격 소진은 주기적인 rebalance 로 정리한다.
+ * - 새 행은 항상 nextKey 로 끝에 추가하고, 요청의 index 는 위치(0부터)로 보고 move 로 옮긴다.
+ * gap 을 1 로 설정하면 기존의 연속 번호(0, 1, 2, ...) 방식과 같다.
+ */
+@Component
+public class OrderKeyService {
+    private final int gap;
+
+    public OrderKeyService(@Value("${ondo.ordering.gap:1024}") int gap) {
+        this.gap = Math.max(1, gap);
+    }
+
+    // 나열된 ID 를 앞에 두고, 나머지는 기존 순서대로 뒤에 붙여 전체를 다시 매긴다
+    public Result reorder(OrderIndexRepository repository, List<Long> ids) {
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() != ids.size()) {
+            throw new RuntimeException("중복된 ID 가 있습니다.");
+        }
+
+        List<OrderRow> current = repository.findOrderRows();
+        Set<Long> existing = new LinkedHashSet<>();
+        for (OrderRow row : current) {
+            existing.add(row.id());
+        }
+        List<Long> missing = requested.stream().filter(id -> !existing.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Not found with ids: " + missing);
+        }
+
+        List<Long> order = new ArrayList<>(requested);
+        for (Long id : existing) {
+            if (!requested.contains(id)) {
+                order.add(id);
+            }
+        }
+        return new Result(repository.updateIndexes(renumber(order, current)), true);
+    }
+
+    // id 를 0부터 시작하는 위치로 이동 (대부분 한 행만 갱신)
+    public Result move(OrderIndexRepository repository, Long id, int toPosition) {
+        int position = Math.max(0, toPosition);
+
+        // 이동 대상을 뺀 순서에서 새 위치의 앞(position - 1) / 뒤(position) 이웃
+        List<OrderRow> neighbors = position == 0
+                ? repository.findOrderRows(id, 0, 1)
+                : repository.findOrderRows(id, position - 1, 2);
+        OrderRow before = position == 0 || neighbors.isEmpty() ? null : neighbors.get(0);
+        OrderRow after = position == 0
+                ? (neighbors.isEmpty() ? null : neighbors.get(0))
+                : (neighbors.size() > 1 ? neighbors.get(1) : null);
+
+        Integer key = before == null && after == null ? null : between(before, after);
+        if (key == null) {
+            // 간격이 소진됐거나 위치가 범위를 벗어난 경우: 전체 순서를 계산해 다시 매긴다
+            return moveWithRenumber(repository, id, position);
+        }
+        if (repository.updateIndexes(Map.of(id, key)) == 0) {
+            throw new RuntimeException("Not found with id: " + id);
+        }
+        return new Result(1, false);
+    }
+
+    // 동점이나 소진된 간격이 있으면 현재 순서를 유지한 채 다시 매긴다
+    public int rebalance(OrderIndexRepository repository) {
+        List<OrderRow> current = repository.findOrderRows();
+        int minimumGap = Math.min(2, gap);
+        boolean needed = false;
+        for (int i = 1; i < current.size() && !needed; i++) {
+            needed = (long) current.get(i).orderIndex() - current.get(i - 1).orderIndex() < minimumGap;
+        }
+        if (!needed) {
+            return 0;
+        }
+        List<Long> order = current.stream().map(OrderRow::id).toList();
+        return repository.updateIndexes(renumber(order, current));
+    }
+
+    // 목록 끝에 추가할 때 사용할 키 (현재 최대 키 + gap)
+    public int nextKey(OrderIndexRepository repository) {
+        return nextKey(repository.findMaxIndex());
+    }
+
+    public int nextKey(Integer currentMax) {
+        if (currentMax == null) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, (long) currentMax + gap);
+    }
+
+    private Result moveWithRenumber(OrderIndexRepository repository, Long id, int position) {
+        List<OrderRow> current = repository.findOrderRows();
+        List<Long> order = new ArrayList<>(current.size());
+        for (OrderRow row : current) {
+            order.add(row.id());
+        }
+        if (!order.remove(id)) {
+            throw new RuntimeException("Not found with id: " + id);
+        }
+        order.add(Math.min(order.size(), position), id);
+        return new Result(repository.updateIndexes(renumber(order, current)), true);
+    }
+
+    // 두 이웃 키 사이의 새 키 (빈 값이 없으면 null)
+    private Integer between(OrderRow before, OrderRow after) {
+        long key;
+        if (before == null) {
+            key = (long) after.orderIndex() - gap;
+        } else if (after == null) {
+            key = (long) before.orderIndex() + gap;
+        } else {
+            long low = before.orderIndex();
+            long high = after.orderIndex();
+            if (high - low < 2) {
+                return null;
+            }
+            key = low + (high - low) / 2;
+        }
+        if (key < Integer.MIN_VALUE || key > Integer.MAX_VALUE) {
+            return null;
+        }
+        return (int) key;
+    }
+
+    // 위치 * gap 으로 다시 매기고, 값이 바뀐 것만 반환 (항목이 많으면 int 범위에 맞게 간격을 줄인다)
+    private Map<Long, Integer> renumber(List<Long> order, List<OrderRow> current) {
+        Map<Long, Integer> currentIndexes = new LinkedHashMap<>();
+        for (OrderRow row : current) {
+            currentIndexes.put(row.id(), row.orderIndex());
+        }
+        int step = (int) Math.max(1, Math.min(gap, (long) Integer.MAX_VALUE / Math.max(1, order.size())));
+
+        Map<Long, Integer> changed = new LinkedHashMap<>();
+        for (int position = 0; position < order.size(); position++) {
+            Long id = order.get(position);
+            int key = position * step;
+            if (!Integer.valueOf(key).equals(currentIndexes.get(id))) {
+                changed.put(id, key);
+            }
+        }
+        return changed;
+    }
+
+    public record Result(int updatedCount, boolean renumbered) {
+    }
+}
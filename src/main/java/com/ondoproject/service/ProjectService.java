@@ -1,11 +1,13 @@
 package com.ondoproject.service;
 
-import com.ondoproject.domain.project.Images_Info;
 import com.ondoproject.domain.project.Project;
 import com.ondoproject.dto.project.*;
+import com.ondoproject.event.GalleryChangedEvent;
 import com.ondoproject.repository.ImageRepository;
 import com.ondoproject.repository.ProjectRepository;
+import com.ondoproject.repository.projection.ProjectCoverRow;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -16,15 +18,26 @@ import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @AllArgsConstructor
 public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ImageRepository imageRepository;
+    private final OrderKeyService orderKeyService;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
+    // ?fields= 로 선택 가능한 ProjectResponseWithProjectImage 필드
+    private static final Set<String> PROJECT_FIELDS = Set.of("id", "projectName", "description", "available",
+            "createdDateTime", "duration", "grossFloorArea", "client", "architect", "index", "projectImageUrl");
 
     public List<ProjectResponse> getAllProjects() {
         return projectRepository.findAllByOrderByIndexAsc().stream()
@@ -43,60 +56,56 @@ public class ProjectService {
                 .toList();
     }
 
+    // 대표 이미지는 프로젝트별 1행만 반환하는 단일 쿼리로 조회 (프로젝트마다 이미지 컬렉션을 로딩하지 않음)
+    @Transactional(readOnly = true)
     public List<ProjectResponseWithProjectImage> getAllProjectsWithImageUrl() {
+        Map<Long, String> coverImageUrls = new HashMap<>();
+        for (ProjectCoverRow cover : imageRepository.findProjectCovers()) {
+            coverImageUrls.put(cover.getProjectId(), cover.getImageURL());
+        }
         return projectRepository.findAllByOrderByIndexAsc().stream()
-                .map(project -> {
-                    String imageUrl = null;
-                    if (project.getImages() != null && !project.getImages().isEmpty()) {
-                        log.info("프로젝트 ID {}의 대표 이미지: {}", project.getId(), project.getImages().stream().findFirst().map(Images_Info::getId).orElse(null));
-                        imageUrl = project.getImages().stream()
-                                .findFirst()
-                                .map(Images_Info::getImageURL)
-                                .orElse(null);
-                    }
-                    return ProjectResponseWithProjectImage.builder()
-                            .id(project.getId())
-                            .projectName(project.getProjectName())
-                            .description(project.getDescription())
-                            .isAvailable(project.isAvailable())
-                            .CreatedDateTime(project.getCreatedDateTime())
-                            .duration(project.getDuration())
-                            .grossFloorArea(project.getGrossFloorArea())
-                            .client(project.getClient())
-                            .architect(project.getArchitect())
-                            .index(project.getIndex())
-                            .projectImageUrl(imageUrl)
-                            .build();
-                })
+                .map(project -> toResponseWithImage(project, coverImageUrls.get(project.getId())))
                 .toList();
     }
 
+    // 요청한 필드만 조회한 프로젝트 목록 (대표 이미지는 projectImageUrl 을 요청했을 때만 조회)
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getProjectFields(String fields) {
+        Set<String> requested = SparseFields.parse(fields, PROJECT_FIELDS);
+        boolean withCover = requested.contains("projectImageUrl");
+
+        Set<String> columns = new LinkedHashSet<>(requested);
+        columns.remove("projectImageUrl");
+        if (withCover) {
+            columns.add("id");
+        }
+        List<Map<String, Object>> rows = projectRepository.findProjectFields(columns);
+
+        Map<Long, String> coverImageUrls = new HashMap<>();
+        if (withCover) {
+            for (ProjectCoverRow cover : imageRepository.findProjectCovers()) {
+                coverImageUrls.put(cover.getProjectId(), cover.getImageURL());
+            }
+        }
+
+        List<Map<String, Object>> projects = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> project = new LinkedHashMap<>();
+            for (String field : requested) {
+                project.put(field, "projectImageUrl".equals(field) ? coverImageUrls.get((Long) row.get("id")) : row.get(field));
+            }
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    @Transactional(readOnly = true)
     public Optional<ProjectResponseWithProjectImage> getProjectById(Long id) {
         return projectRepository.findById(id)
-                .map(project -> {
-                    String imageUrl = null;
-                    if (project.getImages() != null && !project.getImages().isEmpty()) {
-                        imageUrl = project.getImages().stream()
-                                .findFirst()
-                                .map(Images_Info::getImageURL)
-                                .orElse(null);
-                    }
-                    return ProjectResponseWithProjectImage.builder()
-                            .id(project.getId())
-                            .projectName(project.getProjectName())
-                            .description(project.getDescription())
-                            .isAvailable(project.isAvailable())
-                            .CreatedDateTime(project.getCreatedDateTime())
-                            .duration(project.getDuration())
-                            .grossFloorArea(project.getGrossFloorArea())
-                            .client(project.getClient())
-                            .architect(project.getArchitect())
-                            .index(project.getIndex())
-                            .projectImageUrl(imageUrl)
-                            .build();
-                });
+                .map(project -> toResponseWithImage(project, findCoverImageUrl(project.getId())));
     }
 
+    // 새 프로젝트는 목록 끝에 추가하고, index(위치, 0부터)를 지정하면 그 위치로 옮긴다
     @Transactional
     public ProjectResponseWithProjectImage createProject(ProjectCreateRequest request) {
         String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
@@ -110,10 +119,14 @@ public class ProjectService {
                 .grossFloorArea(request.getGrossFloorArea())
                 .client(request.getClient())
                 .architect(request.getArchitect())
-                .index(request.getIndex())
+                .index(orderKeyService.nextKey(projectRepository))
                 .build();
 
         Project savedProject = projectRepository.save(project);
+        if (request.getIndex() != null) {
+            savedProject = moveTo(savedProject.getId(), request.getIndex());
+        }
+        eventPublisher.publishEvent(new GalleryChangedEvent("project created"));
         
         return ProjectResponseWithProjectImage.builder()
                 .id(savedProject.getId())
@@ -157,33 +170,15 @@ public class ProjectService {
         if (request.getArchitect() != null) {
             project.setArchitect(request.getArchitect());
         }
-        if (request.getIndex() != null) {
-            project.setIndex(request.getIndex());
-        }
 
         Project updatedProject = projectRepository.save(project);
-        
-        String imageUrl = null;
-        if (updatedProject.getImages() != null && !updatedProject.getImages().isEmpty()) {
-            imageUrl = updatedProject.getImages().stream()
-                    .findFirst()
-                    .map(Images_Info::getImageURL)
-                    .orElse(null);
+        // index 는 정렬 키가 아니라 위치(0부터)로 보고 이웃 키 사이로 옮긴다
+        if (request.getIndex() != null) {
+            updatedProject = moveTo(id, request.getIndex());
         }
-
-        return ProjectResponseWithProjectImage.builder()
-                .id(updatedProject.getId())
-                .projectName(updatedProject.getProjectName())
-                .description(updatedProject.getDescription())
-                .isAvailable(updatedProject.isAvailable())
-                .CreatedDateTime(updatedProject.getCreatedDateTime())
-                .duration(updatedProject.getDuration())
-                .grossFloorArea(updatedProject.getGrossFloorArea())
-                .client(updatedProject.getClient())
-                .architect(updatedProject.getArchitect())
-                .index(updatedProject.getIndex())
-                .projectImageUrl(imageUrl)
-                .build();
+        eventPublisher.publishEvent(new GalleryChangedEvent("project updated"));
+        
+        return toResponseWithImage(updatedProject, findCoverImageUrl(updatedProject.getId()));
     }
 
     @Transactional
@@ -218,24 +213,14 @@ public class ProjectService {
     public void updateProjectImages(Long projectId, List<Long> imageIds) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+        Set<Long> ids = validateImageIds(imageIds);
 
-        // 기존 이미지들의 프로젝트 연결 해제
-        if (project.getImages() != null) {
-            for (Images_Info image : project.getImages()) {
-                image.setProject(null);
-                imageRepository.save(image);
-            }
-        }
-
-        // 새로운 이미지들을 프로젝트에 연결
-        if (imageIds != null && !imageIds.isEmpty()) {
-            for (Long imageId : imageIds) {
-                Images_Info image = imageRepository.findById(imageId)
-                        .orElseThrow(() -> new RuntimeException("Image not found with id: " + imageId));
-                image.setProject(project);
-                imageRepository.save(image);
-            }
+        // 기존 이미지들의 프로젝트 연결 해제 후 새로운 이미지들을 연결 (각각 UPDATE 한 번)
+        imageRepository.detachAllFromProject(projectId);
+        if (!ids.isEmpty()) {
+            imageRepository.assignProject(project, ids);
         }
+        eventPublisher.publishEvent(new GalleryChangedEvent("project images replaced"));
     }
 
     @Transactional
@@ -243,38 +228,103 @@ public class ProjectService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
 
-        if (imageIds != null && !imageIds.isEmpty()) {
-            for (Long imageId : imageIds) {
-                Images_Info image = imageRepository.findById(imageId)
-                        .orElseThrow(() -> new RuntimeException("Image not found with id: " + imageId));
-                image.setProject(project);
-                imageRepository.save(image);
-            }
+        Set<Long> ids = validateImageIds(imageIds);
+        if (!ids.isEmpty()) {
+            imageRepository.assignProject(project, ids);
+            eventPublisher.publishEvent(new GalleryChangedEvent("project images added"));
         }
     }
 
     @Transactional
     public void removeImagesFromProject(Long projectId, List<Long> imageIds) {
-        Project project = projectRepository.findById(projectId)
+        if (!projectRepository.existsById(projectId)) {
+            throw new RuntimeException("Project not found with id: " + projectId);
+        }
+
+        Set<Long> ids = validateImageIds(imageIds);
+        if (!ids.isEmpty()) {
+            // 해당 프로젝트에 실제로 속한 이미지만 해제
+            imageRepository.detachFromProject(projectId, ids);
+            eventPublisher.publishEvent(new GalleryChangedEvent("project images removed"));
+        }
+    }
+
+    // 프로젝트 순서 변경 (단일 이동은 보통 한 행만 갱신, OrderKeyService 참고)
+    @Transactional
+    public ProjectReorderResponse reorderProjects(ProjectReorderRequest request) {
+        OrderKeyService.Result result;
+        if (request.getProjectIds() != null && !request.getProjectIds().isEmpty()) {
+            result = orderKeyService.reorder(projectRepository, request.getProjectIds());
+        } else if (request.getMoveProjectId() != null && request.getToPosition() != null) {
+            result = orderKeyService.move(projectRepository, request.getMoveProjectId(), request.getToPosition());
+        } else {
+            throw new RuntimeException("projectIds 또는 moveProjectId/toPosition 중 하나를 지정해야 합니다.");
+        }
+        if (result.updatedCount() > 0) {
+            eventPublisher.publishEvent(new GalleryChangedEvent("projects reordered"));
+        }
+        return ProjectReorderResponse.builder()
+                .updatedCount(result.updatedCount())
+                .renumbered(result.renumbered())
+                .build();
+    }
+
+    // 위치 이동 후 다시 조회 (정렬 키 갱신은 영속성 컨텍스트를 비우므로 엔티티를 새로 읽는다)
+    private Project moveTo(Long projectId, int position) {
+        orderKeyService.move(projectRepository, projectId, position);
+        return projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+    }
 
-        if (imageIds != null && !imageIds.isEmpty()) {
-            for (Long imageId : imageIds) {
-                Images_Info image = imageRepository.findById(imageId)
-                        .orElseThrow(() -> new RuntimeException("Image not found with id: " + imageId));
-                
-                // 해당 이미지가 실제로 이 프로젝트에 속하는지 확인
-                if (image.getProject() != null && image.getProject().getId().equals(projectId)) {
-                    image.setProject(null);
-                    imageRepository.save(image);
-                }
-            }
+    // 동점/소진된 간격 정리 (OrderKeyRebalancer 에서 주기적으로 호출)
+    @Transactional
+    public int rebalanceOrder() {
+        int updated = orderKeyService.rebalance(projectRepository);
+        if (updated > 0) {
+            // 첫 화면 묶음의 프로젝트 카드 index/순서 갱신
+            eventPublisher.publishEvent(new GalleryChangedEvent("project order rebalanced"));
         }
+        return updated;
+    }
+
+    // 요청한 이미지 ID 를 한 번의 쿼리로 확인하고, 없는 ID 는 모아서 한 번에 알린다
+    private Set<Long> validateImageIds(List<Long> imageIds) {
+        if (imageIds == null || imageIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> ids = new LinkedHashSet<>(imageIds);
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        imageRepository.findExistingIds(ids).forEach(missing::remove);
+        if (!missing.isEmpty()) {
+            throw new RuntimeException("Images not found with ids: " + missing);
+        }
+        return ids;
+    }
+
+    private String findCoverImageUrl(Long projectId) {
+        return imageRepository.findProjectCoverImageURL(projectId).orElse(null);
+    }
+
+    private ProjectResponseWithProjectImage toResponseWithImage(Project project, String imageUrl) {
+        return ProjectResponseWithProjectImage.builder()
+                .id(project.getId())
+                .projectName(project.getProjectName())
+                .description(project.getDescription())
+                .isAvailable(project.isAvailable())
+                .CreatedDateTime(project.getCreatedDateTime())
+                .duration(project.getDuration())
+                .grossFloorArea(project.getGrossFloorArea())
+                .client(project.getClient())
+                .architect(project.getArchitect())
+                .index(project.getIndex())
+                .projectImageUrl(imageUrl)
+                .build();
     }
 
     public void deleteProjectItem(Long itemId) {
         var workById = projectRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Work item not found"));
         projectRepository.delete(workById);
+        eventPublisher.publishEvent(new GalleryChangedEvent("project deleted"));
     }
 }
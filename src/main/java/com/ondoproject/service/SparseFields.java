@@ -0,0 +1,38 @@
+package com.ondoproject.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ?fields= 파라미터 해석 (쉼표로 구분된 필드 이름, 응답 JSON 의 키와 같은 이름).
+ */
+public final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    // 요청 순서를 유지하고 중복은 제거, 허용되지 않은 필드는 모아서 한 번에 알린다
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        Set<String> requested = new LinkedHashSet<>();
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (allowed.contains(name)) {
+                requested.add(name);
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new RuntimeException("알 수 없는 필드입니다: " + unknown + " (사용 가능: " + new TreeSet<>(allowed) + ")");
+        }
+        if (requested.isEmpty()) {
+            throw new RuntimeException("fields 에 하나 이상의 필드를 지정해야 합니다.");
+        }
+        return requested;
+    }
+}
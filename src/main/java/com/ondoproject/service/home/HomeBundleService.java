@@ -0,0 +1,218 @@
+package com.ondoproject.service.home;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ondoproject.dto.about.AboutResponse;
+import com.ondoproject.dto.author.AuthorResponse;
+import com.ondoproject.dto.home.HomeBundleResponse;
+import com.ondoproject.dto.image.ImagesDTO;
+import com.ondoproject.dto.news.NewsListResponse;
+import com.ondoproject.dto.project.ProjectResponseWithProjectImage;
+import com.ondoproject.event.GalleryChangedEvent;
+import com.ondoproject.event.NewsChangedEvent;
+import com.ondoproject.event.TagChangedEvent;
+import com.ondoproject.service.ProjectService;
+import com.ondoproject.service.about.AboutService;
+import com.ondoproject.service.author.AuthorService;
+import com.ondoproject.service.image.ImageService;
+import com.ondoproject.service.news.NewsService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 첫 화면 묶음 (노출 이미지, 프로젝트 카드, 최신 뉴스, 멤버, About).
+ * 각 구성 요소를 가상 스레드에서 동시에 조회한 뒤 JSON 과 gzip 바이트로 한 번 만들어 둔다.
+ * 갤러리/태그/뉴스 변경이 커밋되면 버전을 올려 다음 조회 시 다시 만들고,
+ * 변경 이벤트가 없는 데이터(멤버, About 등)는 ttl 이 지나면 다시 만든다.
+ * 다시 만든 내용이 이전과 같으면(version/generatedAt 제외) 이전 바이트와 ETag 를 그대로 쓰므로 클라이언트는 304 를 받는다.
+ */
+@Service
+public class HomeBundleService {
+    private static final Logger log = LoggerFactory.getLogger(HomeBundleService.class);
+
+    private final ImageService imageService;
+    private final ProjectService projectService;
+    private final NewsService newsService;
+    private final AuthorService authorService;
+    private final AboutService aboutService;
+    private final ObjectMapper objectMapper;
+    private final int newsSize;
+    private final Duration ttl;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public HomeBundleService(ImageService imageService,
+                             ProjectService projectService,
+                             NewsService newsService,
+                             AuthorService authorService,
+                             AboutService aboutService,
+                             ObjectMapper objectMapper,
+                             @Value("${ondo.home.news-size:5}") int newsSize,
+                             @Value("${ondo.home.ttl:PT5M}") Duration ttl) {
+        this.imageService = imageService;
+        this.projectService = projectService;
+        this.newsService = newsService;
+        this.authorService = authorService;
+        this.aboutService = aboutService;
+        this.objectMapper = objectMapper;
+        this.newsSize = Math.max(1, newsSize);
+        this.ttl = ttl;
+    }
+
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (isFresh(current, version.get())) {
+            return current;
+        }
+
+        synchronized (this) {
+            // 로딩 전에 읽은 버전으로 기록: 로딩 중 변경이 커밋되면 다음 조회에서 다시 만든다
+            long loadingVersion = version.get();
+            current = snapshot;
+            if (isFresh(current, loadingVersion)) {
+                return current;
+            }
+            snapshot = build(loadingVersion);
+            log.debug("홈 번들 재생성: version={}, bytes={}, gzip={}",
+                    loadingVersion, snapshot.getJson().length, snapshot.getGzip().length);
+            return snapshot;
+        }
+    }
+
+    // 커밋 이후(트랜잭션 밖이면 즉시) 버전 증가
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGalleryChanged(GalleryChangedEvent event) {
+        invalidate(event.getReason());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        invalidate(event.getReason());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (event.isAffectsPublished()) {
+            invalidate(event.getReason());
+        }
+    }
+
+    private void invalidate(String reason) {
+        long newVersion = version.incrementAndGet();
+        log.debug("홈 번들 무효화: version={}, reason={}", newVersion, reason);
+    }
+
+    private boolean isFresh(Snapshot current, long expectedVersion) {
+        return current != null
+                && current.getVersion() == expectedVersion
+                && System.nanoTime() - current.getBuiltAtNanos() < ttl.toNanos();
+    }
+
+    private Snapshot build(long loadingVersion) {
+        long builtAtNanos = System.nanoTime();
+        List<ImagesDTO> images;
+        List<ProjectResponseWithProjectImage> projects;
+        List<NewsListResponse> news;
+        List<AuthorResponse> members;
+        List<AboutResponse> about;
+        // 구성 요소마다 독립된 조회(각자 트랜잭션)이므로 가상 스레드에서 동시에 실행
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<List<ImagesDTO>> imagesFuture = CompletableFuture.supplyAsync(() ->
+                    imageService.getGallerySnapshot().getImages().stream()
+                            .filter(ImagesDTO::isShow)
+                            .toList(), executor);
+            CompletableFuture<List<ProjectResponseWithProjectImage>> projectsFuture =
+                    CompletableFuture.supplyAsync(projectService::getAllProjectsWithImageUrl, executor);
+            CompletableFuture<List<NewsListResponse>> newsFuture =
+                    CompletableFuture.supplyAsync(() -> newsService.getLatestNews(newsSize), executor);
+            CompletableFuture<List<AuthorResponse>> membersFuture =
+                    CompletableFuture.supplyAsync(authorService::getAllMembers, executor);
+            CompletableFuture<List<AboutResponse>> aboutFuture =
+                    CompletableFuture.supplyAsync(aboutService::getAll, executor);
+
+            images = imagesFuture.join();
+            projects = projectsFuture.join();
+            news = newsFuture.join();
+            members = membersFuture.join();
+            about = aboutFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Failed to build home bundle: " + cause.getMessage(), cause);
+        }
+
+        // 내용 해시는 매번 바뀌는 version/generatedAt 을 빼고 계산
+        String contentHash = DigestUtils.md5DigestAsHex(serialize(HomeBundleResponse.builder()
+                .images(images)
+                .projects(projects)
+                .news(news)
+                .members(members)
+                .about(about)
+                .build()));
+        Snapshot current = snapshot;
+        if (current != null && current.getContentHash().equals(contentHash)) {
+            // 내용이 그대로면 이전 바이트와 ETag 재사용 (ttl 재생성마다 ETag 가 바뀌지 않도록)
+            return new Snapshot(loadingVersion, builtAtNanos, current.getJson(), current.getGzip(),
+                    current.getEtag(), current.getGzipEtag(), contentHash);
+        }
+
+        byte[] json = serialize(HomeBundleResponse.builder()
+                .version(loadingVersion)
+                .generatedAt(LocalDateTime.now())
+                .images(images)
+                .projects(projects)
+                .news(news)
+                .members(members)
+                .about(about)
+                .build());
+        return new Snapshot(loadingVersion, builtAtNanos, json, gzip(json),
+                "\"" + contentHash + "\"", "\"" + contentHash + "-gzip\"", contentHash);
+    }
+
+    private byte[] serialize(HomeBundleResponse bundle) {
+        try {
+            return objectMapper.writeValueAsBytes(bundle);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize home bundle: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to compress home bundle: " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long version;
+        private final long builtAtNanos;
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;      // 비압축 표현
+        private final String gzipEtag;  // gzip 표현 (표현마다 다른 ETag)
+        private final String contentHash;
+    }
+}
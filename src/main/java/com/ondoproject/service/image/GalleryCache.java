@@ -0,0 +1,83 @@
+package com.ondoproject.service.image;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ondoproject.dto.image.ImagesDTO;
+import com.ondoproject.event.GalleryChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 갤러리 응답 스냅샷 캐시 (미리 직렬화된 JSON 바이트).
+ * 변경 이벤트가 커밋되면 버전만 올리고, 다음 조회 시 한 번 재생성한다.
+ * 로더는 읽기 전용 트랜잭션 안에서 실행한다 (ImageService 내부 호출은 프록시를 거치지 않아 @Transactional 이 적용되지 않으므로).
+ */
+@Component
+public class GalleryCache {
+    private static final Logger log = LoggerFactory.getLogger(GalleryCache.class);
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public GalleryCache(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    public Snapshot get(Supplier<List<ImagesDTO>> loader) {
+        Snapshot current = snapshot;
+        if (current != null && current.getVersion() == version.get()) {
+            return current;
+        }
+
+        synchronized (this) {
+            // 로딩 전에 읽은 버전으로 기록: 로딩 중 변경이 커밋되면 다음 조회에서 다시 생성된다
+            long loadingVersion = version.get();
+            current = snapshot;
+            if (current != null && current.getVersion() == loadingVersion) {
+                return current;
+            }
+
+            List<ImagesDTO> images = readTransaction.execute(status -> loader.get());
+            byte[] json;
+            try {
+                json = objectMapper.writeValueAsBytes(images);
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to serialize gallery: " + e.getMessage(), e);
+            }
+            snapshot = new Snapshot(loadingVersion, images, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+            log.debug("갤러리 스냅샷 재생성: version={}, images={}", loadingVersion, images.size());
+            return snapshot;
+        }
+    }
+
+    // 커밋 이후(트랜잭션 밖이면 즉시) 버전 증가
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGalleryChanged(GalleryChangedEvent event) {
+        long newVersion = version.incrementAndGet();
+        log.debug("갤러리 캐시 무효화: version={}, reason={}", newVersion, event.getReason());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long version;
+        private final List<ImagesDTO> images;
+        private final byte[] json;
+        private final String etag;
+    }
+}
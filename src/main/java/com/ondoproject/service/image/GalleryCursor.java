@@ -0,0 +1,27 @@
+package com.ondoproject.service.image;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 갤러리 페이지 커서: 마지막으로 내려준 이미지의 (index, id).
+ * 클라이언트에는 불투명한 문자열로 전달되도록 "index:id" 를 URL-safe Base64 로 인코딩한다.
+ */
+public record GalleryCursor(int index, long id) {
+
+    public String encode() {
+        String raw = index + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static GalleryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new GalleryCursor(Integer.parseInt(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new RuntimeException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
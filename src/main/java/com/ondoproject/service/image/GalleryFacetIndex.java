@@ -0,0 +1,146 @@
+package com.ondoproject.service.image;
+
+import com.ondoproject.dto.image.ImagesDTO;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 조합 필터용 비트맵 인덱스.
+ * 갤러리 스냅샷의 이미지 순서를 0..n-1 서수로 두고, 태그마다 해당 이미지 서수의 BitSet 을 만든다.
+ * ALL/ANY 필터는 BitSet and/or 로, 나머지 태그의 개수는 결과와의 교집합 크기로 계산하므로 SQL 조인이 필요 없다.
+ * 갤러리 스냅샷이 바뀌면(이미지/태그 연결 변경 이벤트) 다음 조회 시 한 번 다시 만든다.
+ */
+@Component
+public class GalleryFacetIndex {
+    private volatile Index index;
+
+    public Index get(GalleryCache.Snapshot snapshot) {
+        Index current = index;
+        if (current != null && current.source == snapshot) {
+            return current;
+        }
+        synchronized (this) {
+            current = index;
+            if (current != null && current.source == snapshot) {
+                return current;
+            }
+            index = Index.build(snapshot);
+            return index;
+        }
+    }
+
+    public static final class Index {
+        private final GalleryCache.Snapshot source;
+        private final List<ImagesDTO> images;       // 서수 -> 이미지 (갤러리 순서)
+        private final Map<Long, BitSet> byTag;      // 태그 ID -> 이미지 서수 집합
+        private final BitSet shown;                 // isShow = true 인 이미지
+
+        private Index(GalleryCache.Snapshot source, List<ImagesDTO> images, Map<Long, BitSet> byTag, BitSet shown) {
+            this.source = source;
+            this.images = images;
+            this.byTag = byTag;
+            this.shown = shown;
+        }
+
+        static Index build(GalleryCache.Snapshot snapshot) {
+            List<ImagesDTO> images = snapshot.getImages();
+            Map<Long, BitSet> byTag = new HashMap<>();
+            BitSet shown = new BitSet(images.size());
+            for (int ordinal = 0; ordinal < images.size(); ordinal++) {
+                ImagesDTO image = images.get(ordinal);
+                if (image.isShow()) {
+                    shown.set(ordinal);
+                }
+                if (image.getTags() != null) {
+                    for (ImagesDTO.TagInfo tag : image.getTags()) {
+                        byTag.computeIfAbsent(tag.getId(), id -> new BitSet(images.size())).set(ordinal);
+                    }
+                }
+            }
+            return new Index(snapshot, images, byTag, shown);
+        }
+
+        /**
+         * tagIds 를 모두(matchAll) 또는 하나 이상 가진 이미지 집합. tagIds 가 비어 있으면 전체.
+         * showOnly 이면 isShow = true 인 이미지만.
+         */
+        public BitSet match(Collection<Long> tagIds, boolean matchAll, boolean showOnly) {
+            BitSet result;
+            if (tagIds.isEmpty()) {
+                result = new BitSet(images.size());
+                result.set(0, images.size());
+            } else if (matchAll) {
+                result = null;
+                for (Long tagId : tagIds) {
+                    BitSet bits = byTag.get(tagId);
+                    if (bits == null) {
+                        return new BitSet();
+                    }
+                    if (result == null) {
+                        result = (BitSet) bits.clone();
+                    } else {
+                        result.and(bits);
+                    }
+                }
+            } else {
+                result = new BitSet(images.size());
+                for (Long tagId : tagIds) {
+                    BitSet bits = byTag.get(tagId);
+                    if (bits != null) {
+                        result.or(bits);
+                    }
+                }
+            }
+            if (showOnly) {
+                result.and(shown);
+            }
+            return result;
+        }
+
+        // 결과 집합 안에서 각 태그가 붙은 이미지 수 (0 인 태그는 제외)
+        public Map<Long, Integer> facetCounts(BitSet result) {
+            Map<Long, Integer> counts = new HashMap<>();
+            for (Map.Entry<Long, BitSet> entry : byTag.entrySet()) {
+                int count = entry.getValue().intersects(result) ? intersectionSize(entry.getValue(), result) : 0;
+                if (count > 0) {
+                    counts.put(entry.getKey(), count);
+                }
+            }
+            return counts;
+        }
+
+        public ImagesDTO image(int ordinal) {
+            return images.get(ordinal);
+        }
+
+        // 커서 (index, id) 바로 다음 서수 (이미지는 갤러리 순서 = index, id 오름차순이므로 이분 탐색)
+        public int ordinalAfter(GalleryCursor cursor) {
+            int low = 0;
+            int high = images.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                ImagesDTO image = images.get(mid);
+                int compare = image.getIndex() != cursor.index()
+                        ? Integer.compare(image.getIndex(), cursor.index())
+                        : Long.compare(image.getId(), cursor.id());
+                if (compare <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static int intersectionSize(BitSet a, BitSet b) {
+            BitSet copy = (BitSet) a.clone();
+            copy.and(b);
+            return copy.cardinality();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.ondoproject.service.image;
+
+import com.ondoproject.dto.image.HotFileCacheStatsResponse;
+import com.ondoproject.event.UploadedFileDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 자주 요청되는 업로드 파일을 다이렉트 ByteBuffer 에 올려두는 메모리 캐시 (파일명 기준, 바이트 용량 제한).
+ * - 접근 빈도 기반 입장: admissionThreshold 번 이상 요청된 파일만 메모리에 올린다.
+ * - 용량이 부족하면 후보보다 적게 사용된 항목만 내보낸다 (한두 번 요청된 파일이 핫셋을 밀어내지 않도록).
+ * - 추적 중인 후보가 많아지면 빈도를 초기화하고 캐시 항목의 사용 횟수를 절반으로 줄인다 (aging).
+ */
+@Component
+public class HotFileCache {
+    private static final Logger log = LoggerFactory.getLogger(HotFileCache.class);
+    private static final int MAX_TRACKED_CANDIDATES = 10_000;
+
+    private final boolean enabled;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final int admissionThreshold;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> frequencies = new ConcurrentHashMap<>();
+    private long usedBytes;     // this 락으로 보호
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder admissions = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public HotFileCache(@Value("${ondo.image.hot-cache.enabled:true}") boolean enabled,
+                        @Value("${ondo.image.hot-cache.max-bytes:67108864}") long maxBytes,
+                        @Value("${ondo.image.hot-cache.max-entry-bytes:2097152}") long maxEntryBytes,
+                        @Value("${ondo.image.hot-cache.admission-threshold:3}") int admissionThreshold) {
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.admissionThreshold = admissionThreshold;
+    }
+
+    // 캐시에 있으면 메모리 Resource, 없으면 empty (이 경우 호출자가 디스크에서 서빙)
+    public Optional<Resource> get(String fileName, Path path, long length) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Entry entry = entries.get(fileName);
+        if (entry != null) {
+            entry.hits.incrementAndGet();
+            hits.increment();
+            return Optional.of(new ByteBufferResource(entry.buffer, fileName));
+        }
+        misses.increment();
+
+        if (length <= 0 || length > maxEntryBytes || length > maxBytes) {
+            return Optional.empty();
+        }
+        if (frequencies.size() > MAX_TRACKED_CANDIDATES) {
+            age();
+        }
+        int frequency = frequencies.computeIfAbsent(fileName, key -> new AtomicInteger()).incrementAndGet();
+        if (frequency < admissionThreshold) {
+            return Optional.empty();
+        }
+
+        return admit(fileName, path, length, frequency)
+                .map(buffer -> new ByteBufferResource(buffer, fileName));
+    }
+
+    @EventListener
+    public void onUploadedFileDeleted(UploadedFileDeletedEvent event) {
+        frequencies.remove(event.getFileName());
+        synchronized (this) {
+            Entry removed = entries.remove(event.getFileName());
+            if (removed != null) {
+                usedBytes -= removed.size;
+            }
+        }
+    }
+
+    public HotFileCacheStatsResponse stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        synchronized (this) {
+            return HotFileCacheStatsResponse.builder()
+                    .enabled(enabled)
+                    .hits(hitCount)
+                    .misses(missCount)
+                    .hitRatio(total == 0 ? 0.0 : (double) hitCount / total)
+                    .admissions(admissions.sum())
+                    .evictions(evictions.sum())
+                    .entryCount(entries.size())
+                    .usedBytes(usedBytes)
+                    .maxBytes(maxBytes)
+                    .build();
+        }
+    }
+
+    private Optional<ByteBuffer> admit(String fileName, Path path, long length, int frequency) {
+        // 파일 읽기는 락 밖에서 수행
+        ByteBuffer buffer;
+        try {
+            buffer = load(path, length);
+        } catch (IOException e) {
+            log.warn("핫 파일 캐시 적재 실패 ({}): {}", fileName, e.getMessage());
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            Entry existing = entries.get(fileName);
+            if (existing != null) {
+                return Optional.of(existing.buffer);
+            }
+            // 읽는 사이 원본이 삭제되었으면 적재하지 않는다
+            // (ImageFileStore 는 파일을 지운 뒤 이벤트를 발행하고, 삭제 처리도 같은 락을 잡으므로
+            //  여기서 파일이 있으면 삭제 이벤트는 아직 오지 않았고 이후 이 항목을 제거한다)
+            if (!Files.exists(path)) {
+                return Optional.empty();
+            }
+
+            if (usedBytes + buffer.remaining() > maxBytes) {
+                List<Map.Entry<String, Entry>> victims = new ArrayList<>();
+                long freed = 0;
+                List<Map.Entry<String, Entry>> byUsage = entries.entrySet().stream()
+                        .sorted(Comparator.comparingLong(e -> e.getValue().hits.get()))
+                        .toList();
+                for (Map.Entry<String, Entry> candidate : byUsage) {
+                    if (usedBytes - freed + buffer.remaining() <= maxBytes) {
+                        break;
+                    }
+                    // 후보보다 자주 쓰이는 항목은 내보내지 않는다
+                    if (candidate.getValue().hits.get() >= frequency) {
+                        return Optional.empty();
+                    }
+                    victims.add(candidate);
+                    freed += candidate.getValue().size;
+                }
+                if (usedBytes - freed + buffer.remaining() > maxBytes) {
+                    return Optional.empty();
+                }
+                for (Map.Entry<String, Entry> victim : victims) {
+                    entries.remove(victim.getKey());
+                    evictions.increment();
+                }
+                usedBytes -= freed;
+            }
+
+            entries.put(fileName, new Entry(buffer, buffer.remaining(), frequency));
+            usedBytes += buffer.remaining();
+            frequencies.remove(fileName);
+            admissions.increment();
+            return Optional.of(buffer);
+        }
+    }
+
+    private ByteBuffer load(Path path, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) length);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // 끝까지 읽는다
+            }
+        }
+        buffer.flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private void age() {
+        frequencies.clear();
+        for (Entry entry : entries.values()) {
+            entry.hits.updateAndGet(count -> count / 2);
+        }
+    }
+
+    private static class Entry {
+        private final ByteBuffer buffer;
+        private final long size;
+        private final AtomicLong hits;
+
+        Entry(ByteBuffer buffer, long size, long hits) {
+            this.buffer = buffer;
+            this.size = size;
+            this.hits = new AtomicLong(hits);
+        }
+    }
+}
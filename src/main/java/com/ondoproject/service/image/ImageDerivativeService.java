@@ -0,0 +1,160 @@
+package com.ondoproject.service.image;
+
+import com.ondoproject.dto.image.ImagesDTO;
+import com.ondoproject.event.GalleryChangedEvent;
+import com.ondoproject.repository.ImageRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 시점에 반응형 파생 이미지(너비별 리사이즈본)를 비동기로 생성한다.
+ * 파생 파일은 원본 옆에 {uuid}_w{width}.{ext} 이름으로 저장되고,
+ * 생성된 너비 목록은 Images_Info.variantWidths 에 기록된다.
+ */
+@Service
+public class ImageDerivativeService {
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    private final ImageRepository imageRepository;
+    private final ImageFileStore imageFileStore;
+    private final ImageResizer imageResizer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final List<Integer> derivativeWidths;
+    private final float quality;
+    // 리사이즈는 CPU 작업이므로 코어 수에 맞춘 고정 크기 풀에서 처리
+    private final ExecutorService executor;
+
+    public ImageDerivativeService(ImageRepository imageRepository,
+                                  ImageFileStore imageFileStore,
+                                  ImageResizer imageResizer,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${ondo.image.derivative-widths:320,800,1600}") List<Integer> derivativeWidths,
+                                  @Value("${ondo.image.derivative-quality:0.82}") float quality) {
+        this.imageRepository = imageRepository;
+        this.imageFileStore = imageFileStore;
+        this.imageResizer = imageResizer;
+        this.eventPublisher = eventPublisher;
+        this.derivativeWidths = derivativeWidths.stream().sorted().distinct().toList();
+        this.quality = quality;
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("image-derivative-", 0).daemon(true).factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // 업로드 직후 호출 (DB 저장이 끝난 이미지 대상)
+    public void generateAsync(long imageId, String fileName) {
+        executor.execute(() -> {
+            try {
+                generate(imageId, fileName);
+            } catch (Exception e) {
+                log.warn("파생 이미지 생성 실패 (imageId={}, file={}): {}", imageId, fileName, e.getMessage());
+            }
+        });
+    }
+
+    void generate(long imageId, String fileName) throws IOException {
+        String format = imageResizer.outputFormat(fileName);
+        Path source = imageFileStore.resolve(fileName);
+        Dimension size = imageResizer.readSize(source);
+
+        // 원본보다 작은 너비만 생성 (GIF/WebP 는 원본 크기만 기록)
+        List<Integer> widths = format == null ? List.of() : derivativeWidths.stream()
+                .filter(width -> width < size.width)
+                .toList();
+
+        List<Integer> generated = new ArrayList<>();
+        if (!widths.isEmpty()) {
+            boolean keepAlpha = "png".equals(format);
+            // 가장 큰 너비 기준으로 한 번만 디코딩하고, 큰 것부터 차례로 축소
+            BufferedImage current = imageResizer.read(source, widths.get(widths.size() - 1));
+            for (int i = widths.size() - 1; i >= 0; i--) {
+                int width = widths.get(i);
+                current = imageResizer.scaleToWidth(current, width, keepAlpha);
+                imageResizer.write(current, format, quality, imageFileStore.resolve(variantFileName(fileName, width)));
+                generated.add(0, width);
+            }
+        }
+
+        String variantWidths = generated.stream().map(String::valueOf).collect(Collectors.joining(","));
+        int updated = imageRepository.updateDerivatives(imageId, size.width, size.height, variantWidths);
+        if (updated == 0) {
+            // 생성 도중 이미지가 삭제된 경우 파생 파일 정리
+            deleteDerivatives(fileName, variantWidths);
+        } else {
+            // srcset 이 바뀌었으므로 갤러리 캐시 갱신
+            eventPublisher.publishEvent(new GalleryChangedEvent("image derivatives generated"));
+        }
+    }
+
+    public void deleteDerivatives(String fileName, String variantWidths) {
+        for (int width : parseWidths(variantWidths)) {
+            try {
+                imageFileStore.delete(variantFileName(fileName, width));
+            } catch (IOException e) {
+                log.warn("파생 이미지 삭제 실패 ({}, w={}): {}", fileName, width, e.getMessage());
+            }
+        }
+    }
+
+    // 작은 파일부터 나열한 srcset 목록 (원본이 마지막)
+    public List<ImagesDTO.ImageSource> srcset(String imageURL, Integer width, String variantWidths) {
+        List<ImagesDTO.ImageSource> sources = new ArrayList<>();
+        if (imageURL == null) {
+            return sources;
+        }
+        String baseUrl = imageURL.substring(0, imageURL.lastIndexOf('/') + 1);
+        String fileName = storedFileName(imageURL);
+        for (int variantWidth : parseWidths(variantWidths)) {
+            sources.add(ImagesDTO.ImageSource.builder()
+                    .url(baseUrl + variantFileName(fileName, variantWidth))
+                    .width(variantWidth)
+                    .build());
+        }
+        sources.add(ImagesDTO.ImageSource.builder()
+                .url(imageURL)
+                .width(width)
+                .build());
+        return sources;
+    }
+
+    // imageName 은 수정될 수 있으므로 실제 저장된 파일명은 URL 의 마지막 경로에서 얻는다
+    public static String storedFileName(String imageURL) {
+        return imageURL.substring(imageURL.lastIndexOf('/') + 1);
+    }
+
+    public static String variantFileName(String fileName, int width) {
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot == -1 ? fileName : fileName.substring(0, dot);
+        String extension = dot == -1 ? "" : fileName.substring(dot);
+        return baseName + "_w" + width + extension;
+    }
+
+    private static List<Integer> parseWidths(String variantWidths) {
+        if (variantWidths == null || variantWidths.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(variantWidths.split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.ondoproject.service.image;
+
+import com.ondoproject.event.UploadedFileDeletedEvent;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 업로드 파일을 /app/uploads 에 스트리밍으로 저장한다.
+ * 멀티파트 스트림 -> 임시 파일 -> 원자적 rename 순서로 기록하며,
+ * 같은 패스에서 SHA-256 해시 계산과 매직 바이트 기반 타입 판별을 함께 수행한다.
+ * 파일 크기와 무관하게 업로드당 힙 사용량은 BUFFER_SIZE 로 고정된다.
+ */
+@Component
+@AllArgsConstructor
+public class ImageFileStore {
+    private static final Logger log = LoggerFactory.getLogger(ImageFileStore.class);
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static final String UPLOAD_DIR = "/app/uploads/";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SNIFF_LENGTH = 12;
+
+    public StoredImage store(MultipartFile file, String fileExtension) throws IOException {
+        Path uploadPath = createUploadDirectory();
+        String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
+        Path target = uploadPath.resolve(uniqueFileName);
+
+        // 같은 디렉토리에 임시 파일을 만들어야 rename 이 원자적으로 수행된다
+        Path temp = Files.createTempFile(uploadPath, ".upload-", ".tmp");
+        try {
+            MessageDigest digest = newSha256();
+            long size = 0;
+            String sniffedType;
+
+            try (InputStream in = file.getInputStream();
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+
+                // 첫 청크에서 매직 바이트로 실제 파일 타입 판별
+                int headerLength = in.readNBytes(buffer, 0, SNIFF_LENGTH);
+                sniffedType = sniffContentType(buffer, headerLength);
+                if (sniffedType == null) {
+                    throw new RuntimeException("Invalid file content. Only JPG, JPEG, PNG, GIF, WEBP files are allowed");
+                }
+                size += write(out, digest, buffer, headerLength);
+
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += write(out, digest, buffer, read);
+                }
+                out.force(false);
+            }
+
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredImage(uniqueFileName, size, HexFormat.of().formatHex(digest.digest()), sniffedType);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    public boolean delete(String fileName) throws IOException {
+        boolean deleted = Files.deleteIfExists(resolve(fileName));
+        // 리사이즈/서빙 캐시 무효화
+        eventPublisher.publishEvent(new UploadedFileDeletedEvent(fileName));
+        return deleted;
+    }
+
+    public Path resolve(String fileName) {
+        return Paths.get(UPLOAD_DIR).resolve(fileName);
+    }
+
+    private Path createUploadDirectory() throws IOException {
+        Path uploadPath = Paths.get(UPLOAD_DIR);
+        if (!Files.exists(uploadPath)) {
+            Files.createDirectories(uploadPath);
+            log.info("업로드 디렉토리 생성: {}", uploadPath);
+        }
+        return uploadPath;
+    }
+
+    private int write(FileChannel out, MessageDigest digest, byte[] buffer, int length) throws IOException {
+        digest.update(buffer, 0, length);
+        ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, length);
+        while (chunk.hasRemaining()) {
+            out.write(chunk);
+        }
+        return length;
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // 매직 바이트로 이미지 타입 판별 (허용 타입이 아니면 null)
+    static String sniffContentType(byte[] header, int length) {
+        if (length >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (length >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                && header[4] == 0x0D && header[5] == 0x0A && header[6] == 0x1A && header[7] == 0x0A) {
+            return "image/png";
+        }
+        if (length >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8'
+                && (header[4] == '7' || header[4] == '9') && header[5] == 'a') {
+            return "image/gif";
+        }
+        if (length >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return "image/webp";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.ondoproject.service.image;
+
+import com.ondoproject.dto.image.ImageReorderRequest;
+import com.ondoproject.dto.image.ImageReorderResponse;
+import com.ondoproject.event.GalleryChangedEvent;
+import com.ondoproject.repository.ImageRepository;
+import com.ondoproject.service.OrderKeyService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 갤러리 순서(Images_Info.index) 변경.
+ * 정렬 키는 간격을 두고 매기므로 단일 이동은 보통 한 행만 갱신하며 (OrderKeyService 참고),
+ * 갤러리 캐시 무효화 이벤트는 요청당 한 번만 발행한다.
+ */
+@Service
+@AllArgsConstructor
+public class ImageOrderService {
+    private final ImageRepository imageRepository;
+    private final OrderKeyService orderKeyService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ImageReorderResponse reorder(ImageReorderRequest request) {
+        OrderKeyService.Result result;
+        if (request.getImageIds() != null && !request.getImageIds().isEmpty()) {
+            result = orderKeyService.reorder(imageRepository, request.getImageIds());
+        } else if (request.getMoveImageId() != null && request.getToPosition() != null) {
+            result = orderKeyService.move(imageRepository, request.getMoveImageId(), request.getToPosition());
+        } else {
+            throw new RuntimeException("imageIds 또는 moveImageId/toPosition 중 하나를 지정해야 합니다.");
+        }
+
+        if (result.updatedCount() > 0) {
+            eventPublisher.publishEvent(new GalleryChangedEvent("images reordered"));
+        }
+        return ImageReorderResponse.builder()
+                .updatedCount(result.updatedCount())
+                .renumbered(result.renumbered())
+                .build();
+    }
+
+    // 한 이미지를 0부터 시작하는 위치로 이동 (업로드/수정 요청의 index)
+    @Transactional
+    public void moveTo(Long imageId, int position) {
+        OrderKeyService.Result result = orderKeyService.move(imageRepository, imageId, position);
+        if (result.updatedCount() > 0) {
+            eventPublisher.publishEvent(new GalleryChangedEvent("image moved"));
+        }
+    }
+
+    // 동점/소진된 간격 정리 (OrderKeyRebalancer 에서 주기적으로 호출)
+    @Transactional
+    public int rebalance() {
+        int updated = orderKeyService.rebalance(imageRepository);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new GalleryChangedEvent("image order rebalanced"));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,283 @@
+package com.ondoproject.service.image;
+
+import com.ondoproject.event.UploadedFileDeletedEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * /uploads/{filename}?w=&q= 요청 시 리사이즈 결과를 보관하는 디스크 캐시.
+ * - 파일은 /app/uploads/.cache/ 에 저장되고, 인덱스(키 -> 바이트 수)는 메모리의 access-order LinkedHashMap 으로 관리한다.
+ * - 총 용량이 maxBytes 를 넘으면 가장 오래 사용되지 않은 항목부터 삭제한다 (LRU).
+ * - 같은 키에 대한 동시 요청은 하나의 진행 중 작업(CompletableFuture)을 공유한다.
+ * - 너비/품질은 허용 목록으로 맞춰(snap) 파라미터 조합으로 캐시를 부풀리거나 리사이즈를 남발할 수 없게 하고,
+ *   동시에 실행되는 리사이즈 수는 세마포어로 제한한다.
+ */
+@Component
+public class ImageResizeCache {
+    private static final Logger log = LoggerFactory.getLogger(ImageResizeCache.class);
+
+    public static final int DEFAULT_QUALITY = 82;
+
+    private final ImageFileStore imageFileStore;
+    private final ImageResizer imageResizer;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final List<Integer> widths;
+    private final List<Integer> qualities;
+    private final Semaphore renderPermits;
+
+    // access-order = true 이므로 get 시 맨 뒤로 이동 (맨 앞이 LRU)
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageResizeCache(ImageFileStore imageFileStore,
+                            ImageResizer imageResizer,
+                            @Value("${ondo.image.resize-cache.max-bytes:536870912}") long maxBytes,
+                            @Value("${ondo.image.resize-cache.widths:160,320,480,640,800,1200,1600,2400,3200}") List<Integer> widths,
+                            @Value("${ondo.image.resize-cache.qualities:50,70,82,90}") List<Integer> qualities,
+                            @Value("${ondo.image.resize-cache.max-concurrent-renders:2}") int maxConcurrentRenders) {
+        this.imageFileStore = imageFileStore;
+        this.imageResizer = imageResizer;
+        this.cacheDir = Paths.get(ImageFileStore.UPLOAD_DIR, ".cache");
+        this.maxBytes = maxBytes;
+        this.widths = widths.stream().sorted().distinct().toList();
+        this.qualities = qualities.stream().sorted().distinct().toList();
+        this.renderPermits = new Semaphore(Math.max(1, maxConcurrentRenders));
+    }
+
+    // 요청 너비 이상인 허용 너비 중 가장 작은 것 (모두 작으면 가장 큰 허용 너비)
+    public int snapWidth(int width) {
+        for (int allowed : widths) {
+            if (allowed >= width) {
+                return allowed;
+            }
+        }
+        return widths.get(widths.size() - 1);
+    }
+
+    // 가장 가까운 품질 프리셋 (생략 시 기본 품질)
+    public int snapQuality(Integer quality) {
+        int requested = quality != null ? quality : DEFAULT_QUALITY;
+        int snapped = qualities.get(0);
+        for (int allowed : qualities) {
+            if (Math.abs(allowed - requested) < Math.abs(snapped - requested)) {
+                snapped = allowed;
+            }
+        }
+        return snapped;
+    }
+
+    // 재시작 시 디스크에 남아 있는 캐시 파일로 인덱스 복원 (수정 시각 순으로 LRU 근사)
+    @PostConstruct
+    public void loadIndex() {
+        try {
+            Files.createDirectories(cacheDir);
+            List<Path> files;
+            try (Stream<Path> stream = Files.list(cacheDir)) {
+                files = stream.filter(Files::isRegularFile)
+                        .filter(path -> !path.getFileName().toString().startsWith("."))
+                        .sorted(Comparator.comparing(ImageResizeCache::lastModified))
+                        .toList();
+            }
+            List<Path> evicted;
+            synchronized (index) {
+                for (Path file : files) {
+                    long size = Files.size(file);
+                    index.put(file.getFileName().toString(), size);
+                    totalBytes += size;
+                }
+                evicted = evictOverflow();
+            }
+            deleteFiles(evicted);
+            log.info("리사이즈 캐시 인덱스 복원: {}개, {} bytes", files.size() - evicted.size(), totalBytes);
+        } catch (IOException e) {
+            log.warn("리사이즈 캐시 인덱스 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 리사이즈된 파일 경로를 반환한다.
+     * 원본보다 크게 요청했거나 리사이즈할 수 없는 형식(GIF/WebP)이면 empty 를 반환하며, 이 경우 원본을 서빙하면 된다.
+     */
+    public Optional<Path> getOrCreate(String fileName, int width, Integer quality) throws IOException {
+        String format = imageResizer.outputFormat(fileName);
+        if (format == null) {
+            return Optional.empty();
+        }
+        int snappedWidth = snapWidth(width);
+        int snappedQuality = snapQuality(quality);
+        String key = cacheKey(fileName, snappedWidth, snappedQuality);
+
+        Path cached = lookup(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<Path> mine = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            // 다른 요청이 이미 같은 파생 이미지를 만드는 중이면 그 결과를 기다린다
+            return Optional.ofNullable(await(running));
+        }
+
+        try {
+            // putIfAbsent 직전에 다른 요청이 완료했을 수 있으므로 한 번 더 확인
+            Path result = lookup(key);
+            if (result == null) {
+                result = renderWithPermit(fileName, key, format, snappedWidth, snappedQuality);
+            }
+            mine.complete(result);
+            return Optional.ofNullable(result);
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 원본 삭제 시 해당 파일에서 파생된 캐시 항목 모두 제거
+    @EventListener
+    public void onUploadedFileDeleted(UploadedFileDeletedEvent event) {
+        String prefix = keyPrefix(event.getFileName());
+        List<Path> removed = new ArrayList<>();
+        synchronized (index) {
+            Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Long> entry = iterator.next();
+                if (entry.getKey().startsWith(prefix)) {
+                    totalBytes -= entry.getValue();
+                    removed.add(cacheDir.resolve(entry.getKey()));
+                    iterator.remove();
+                }
+            }
+        }
+        deleteFiles(removed);
+    }
+
+    // 리사이즈 결과는 immutable 로 캐시되므로 슬롯이 없다고 원본으로 대신하지 않고 순서를 기다린다
+    private Path renderWithPermit(String fileName, String key, String format, int width, int quality) throws IOException {
+        try {
+            renderPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to resize: " + fileName, e);
+        }
+        try {
+            return render(fileName, key, format, width, quality);
+        } finally {
+            renderPermits.release();
+        }
+    }
+
+    private Path render(String fileName, String key, String format, int width, int quality) throws IOException {
+        Path source = imageFileStore.resolve(fileName);
+        if (!Files.isRegularFile(source)) {
+            throw new IOException("File not found: " + fileName);
+        }
+        Dimension size = imageResizer.readSize(source);
+        if (width >= size.width) {
+            return null;
+        }
+
+        BufferedImage image = imageResizer.read(source, width);
+        BufferedImage resized = imageResizer.scaleToWidth(image, width, "png".equals(format));
+        Path target = cacheDir.resolve(key);
+        imageResizer.write(resized, format, quality / 100f, target);
+
+        long fileSize = Files.size(target);
+        List<Path> evicted;
+        synchronized (index) {
+            Long previous = index.put(key, fileSize);
+            totalBytes += fileSize - (previous != null ? previous : 0);
+            evicted = evictOverflow();
+        }
+        deleteFiles(evicted);
+        return evicted.contains(target) ? null : target;
+    }
+
+    private Path lookup(String key) {
+        synchronized (index) {
+            return index.get(key) != null ? cacheDir.resolve(key) : null;
+        }
+    }
+
+    // index 락을 잡은 상태에서 호출
+    private List<Path> evictOverflow() {
+        List<Path> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = index.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            totalBytes -= eldest.getValue();
+            evicted.add(cacheDir.resolve(eldest.getKey()));
+            iterator.remove();
+        }
+        return evicted;
+    }
+
+    private void deleteFiles(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("리사이즈 캐시 파일 삭제 실패 ({}): {}", file.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    private Path await(CompletableFuture<Path> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    private static String cacheKey(String fileName, int width, int quality) {
+        int dot = fileName.lastIndexOf('.');
+        String extension = dot == -1 ? "" : fileName.substring(dot);
+        return keyPrefix(fileName) + width + "q" + quality + extension;
+    }
+
+    private static String keyPrefix(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot == -1 ? fileName : fileName.substring(0, dot);
+        return baseName + "_r";
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class).lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
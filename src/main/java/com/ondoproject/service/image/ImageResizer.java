@@ -0,0 +1,245 @@
+package com.ondoproject.service.image;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+
+/**
+ * javax.imageio 기반 리사이즈 유틸리티 (업로드 시 파생 이미지 생성, 요청 시 리사이즈에서 공용 사용)
+ * JPEG 의 EXIF Orientation 은 축소 전에 픽셀에 반영하므로, 크기/너비는 모두 화면에 보이는 방향 기준이다.
+ */
+@Component
+public class ImageResizer {
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    // 원본 크기 조회 (헤더만 읽고 픽셀은 디코딩하지 않음, 90도 회전 방향이면 가로/세로를 바꿔 반환)
+    public Dimension readSize(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = openReader(in, source);
+            try {
+                if (swapsAxes(readOrientation(source))) {
+                    return new Dimension(reader.getHeight(0), reader.getWidth(0));
+                }
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 목표 너비의 2배 이상을 유지하는 선에서 서브샘플링하여 디코딩 (큰 원본의 메모리 사용 절감)
+    // 디코딩 후 EXIF Orientation 대로 회전/반전한 이미지를 반환한다
+    public BufferedImage read(Path source, int targetWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            ImageReader reader = openReader(in, source);
+            try {
+                int orientation = readOrientation(source);
+                int displayWidth = swapsAxes(orientation) ? reader.getHeight(0) : reader.getWidth(0);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = displayWidth / (targetWidth * 2);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return applyOrientation(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 절반씩 단계적으로 축소하여 bilinear 보간의 계단 현상을 줄인다
+    public BufferedImage scaleToWidth(BufferedImage source, int width, boolean keepAlpha) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                if (!keepAlpha) {
+                    // JPEG 는 알파 채널이 없으므로 투명 영역을 흰색으로 채운다
+                    g.setColor(Color.WHITE);
+                    g.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+
+        return current;
+    }
+
+    // 임시 파일에 기록한 뒤 원자적으로 교체 (읽는 쪽에서 쓰다 만 파일을 보지 않도록)
+    public void write(BufferedImage image, String format, float quality, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(format);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for format: " + format);
+        }
+        ImageWriter writer = writers.next();
+        Path temp = Files.createTempFile(target.getParent(), ".resize-", ".tmp");
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                if (param.canWriteCompressed() && "jpeg".equals(format)) {
+                    param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                    param.setCompressionQuality(quality);
+                }
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 리사이즈 출력 포맷 (GIF 애니메이션/WebP 는 ImageIO 로 재인코딩하지 않음)
+    public String outputFormat(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".jpg") || lower.endsWith(".jpeg")) {
+            return "jpeg";
+        }
+        if (lower.endsWith(".png")) {
+            return "png";
+        }
+        return null;
+    }
+
+    // EXIF Orientation (1~8), JPEG 가 아니거나 값이 없으면 1 (변환 없음)
+    // ImageIO 의 JPEG 메타데이터는 마커 순서가 표준과 다르면 예외를 던지므로 SOS 전까지의 마커를 직접 훑는다
+    private int readOrientation(Path source) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readUnsignedShort() != 0xFFD8) {
+                return 1;
+            }
+            while (true) {
+                int marker = in.readUnsignedShort();
+                if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                    return 1;
+                }
+                int length = in.readUnsignedShort() - 2;
+                if (length < 0) {
+                    return 1;
+                }
+                if (marker == 0xFFE1) {
+                    byte[] data = new byte[length];
+                    in.readFully(data);
+                    int orientation = parseExifOrientation(data);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        } catch (IOException e) {
+            // 헤더를 읽지 못해도 리사이즈는 저장된 방향 그대로 진행
+            return 1;
+        }
+    }
+
+    // "Exif\0\0" + TIFF 헤더 + IFD0 에서 Orientation 태그 값 (없으면 0)
+    private static int parseExifOrientation(byte[] data) {
+        if (data.length < 14 || !"Exif".equals(new String(data, 0, 4, StandardCharsets.US_ASCII))) {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(data, 6, data.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        try {
+            int ifd = tiff.getInt(4);
+            int entries = Short.toUnsignedInt(tiff.getShort(ifd));
+            for (int i = 0; i < entries; i++) {
+                int entry = ifd + 2 + i * 12;
+                if (Short.toUnsignedInt(tiff.getShort(entry)) == EXIF_ORIENTATION_TAG) {
+                    int orientation = Short.toUnsignedInt(tiff.getShort(entry + 8));
+                    return orientation >= 1 && orientation <= 8 ? orientation : 0;
+                }
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            // 잘린 EXIF 는 무시
+        }
+        return 0;
+    }
+
+    // 5~8 은 90도 회전이 포함되어 가로/세로가 바뀐다
+    private static boolean swapsAxes(int orientation) {
+        return orientation >= 5;
+    }
+
+    private static BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        if (orientation <= 1) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        // 저장된 좌표 (x, y) -> 화면 좌표 변환 (AffineTransform(m00, m10, m01, m11, m02, m12))
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 대각 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 반대 대각 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+        };
+        boolean swap = swapsAxes(orientation);
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+
+    private ImageReader openReader(ImageInputStream in, Path source) throws IOException {
+        if (in == null) {
+            throw new IOException("Cannot open image: " + source.getFileName());
+        }
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+        if (!readers.hasNext()) {
+            throw new IOException("Unsupported image format: " + source.getFileName());
+        }
+        ImageReader reader = readers.next();
+        reader.setInput(in, true, true);
+        return reader;
+    }
+}
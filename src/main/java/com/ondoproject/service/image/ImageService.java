@@ -2,27 +2,43 @@ package com.ondoproject.service.image;
 
 import com.ondoproject.domain.project.Images_Info;
 import com.ondoproject.domain.project.Project;
+import com.ondoproject.dto.image.ImageFacetResponse;
+import com.ondoproject.dto.image.ImagePageResponse;
 import com.ondoproject.dto.image.ImagesDTO;
 import com.ondoproject.dto.image.ImageUploadResponse;
+import com.ondoproject.dto.image.MultipleImageUploadResponse;
+import com.ondoproject.event.GalleryChangedEvent;
 import com.ondoproject.repository.ImageRepository;
 import com.ondoproject.repository.ImageTagRepository;
 import com.ondoproject.repository.ProjectRepository;
+import com.ondoproject.repository.projection.GalleryImageRow;
+import com.ondoproject.repository.projection.ImageTagPair;
+import com.ondoproject.repository.projection.OrderRow;
+import com.ondoproject.service.OrderKeyService;
+import com.ondoproject.service.SparseFields;
+import com.ondoproject.service.tag.TagDictionary;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 
 @Service
 @AllArgsConstructor
@@ -30,71 +46,238 @@ public class ImageService {
     private final ImageRepository imageRepository;
     private final ImageTagRepository imageTagRepository;
     private final ProjectRepository projectRepository;
+    private final ImageFileStore imageFileStore;
+    private final ImageDerivativeService imageDerivativeService;
+    private final GalleryCache galleryCache;
+    private final TagDictionary tagDictionary;
+    private final GalleryFacetIndex galleryFacetIndex;
+    private final ImageOrderService imageOrderService;
+    private final OrderKeyService orderKeyService;
+    private final ApplicationEventPublisher eventPublisher;
     
-    // 업로드 디렉토리 설정
-    private static final String UPLOAD_DIR = "/app/uploads/";
     private static final String BASE_URL = "/uploads/";
+    // 병렬 업로드 시 동시에 디스크에 쓰는 최대 파일 수
+    private static final int UPLOAD_CONCURRENCY = 4;
+    private static final int MAX_PAGE_SIZE = 100;
+    // ?fields= 로 선택 가능한 ImagesDTO 필드 (tags/srcset 은 요청했을 때만 계산)
+    private static final Set<String> IMAGE_FIELDS = Set.of("id", "imageURL", "fileName", "createDateTime",
+            "projectName", "description", "index", "show", "basic", "tags", "srcset");
 
+    // 이미지 + 프로젝트 + 태그를 평면 행으로 한 번에 조회하여 DTO 구성
+    // (엔티티를 영속성 컨텍스트에 올리지 않으므로 EAGER 로딩/dirty-check 스냅샷 비용이 없음)
+    @Transactional(readOnly = true)
     public List<ImagesDTO> getAllImages() {
-        // 모든 이미지 조회 (isShow 값에 상관없이, index 순으로 정렬)
-        var images = imageRepository.findAllByOrderByIndexAsc();
-        
-        // 모든 이미지의 ID 리스트 생성
-        var imageIds = images.stream()
-                .map(image -> image.getId())
-                .collect(Collectors.toList());
-        
-        // 모든 이미지의 태그를 한 번에 조회하여 Map으로 그룹핑 (N+1 문제 해결)
-        var imageTagsMap = imageTagRepository.findByImageIds(imageIds).stream()
-                .collect(Collectors.groupingBy(
-                    imageTag -> imageTag.getImagesInfo().getId(),
-                    Collectors.mapping(
-                        imageTag -> ImagesDTO.TagInfo.builder()
-                                .id(imageTag.getTag().getId())
-                                .tagName(imageTag.getTag().getTagName())
-                                .createDateTime(imageTag.getTag().getCreateDateTime())
-                                .build(),
-                        Collectors.toList()
-                    )
-                ));
-        
-        return images.stream()
-                .map(image -> {
-                    var project = image.getProject();
-                    var tags = imageTagsMap.getOrDefault(image.getId(), List.of());
-                    
-                    return ImagesDTO.builder()
-                            .id(image.getId())
-                            .imageURL(image.getImageURL())
-                            .fileName(image.getImageName())
-                            .createDateTime(image.getCreateDateTime())
-                            .description(project != null ? project.getDescription() : null)
-                            .projectName(project != null ? project.getProjectName() : null)
-                            .index(image.getIndex())
-                            .isShow(image.isShow())
-                            .isBasic(image.isBasic())
-                            .tags(tags)
-                            .build();
-                }).toList();
+        return toImagesDTOs(imageRepository.findGalleryRows());
+    }
+
+    // 갤러리 커서 페이지 조회 (index, id 키셋, 필터는 null 이면 미적용)
+    @Transactional(readOnly = true)
+    public ImagePageResponse getImagePage(String cursor, int size, Boolean isShow, Boolean isBasic,
+                                          Long projectId, Long tagId) {
+        int pageSize = Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+        GalleryCursor after = cursor == null || cursor.isBlank() ? null : GalleryCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        List<OrderRow> keys = imageRepository.findGalleryPageKeys(isShow, isBasic, projectId, tagId,
+                after != null ? after.index() : null, after != null ? after.id() : null, pageSize + 1);
+        boolean hasNext = keys.size() > pageSize;
+        if (hasNext) {
+            keys = keys.subList(0, pageSize);
+        }
+
+        // 행 조회는 별도 쿼리라 그 사이 삭제된 이미지는 빠질 수 있으므로 커서는 키 조회 결과로 만든다
+        List<Long> ids = keys.stream().map(OrderRow::id).toList();
+        List<ImagesDTO> items = ids.isEmpty()
+                ? new ArrayList<>()
+                : toImagesDTOs(imageRepository.findGalleryRowsByIds(ids));
+
+        String nextCursor = null;
+        if (hasNext) {
+            OrderRow last = keys.get(keys.size() - 1);
+            nextCursor = new GalleryCursor(last.orderIndex(), last.id()).encode();
+        }
+
+        return ImagePageResponse.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
+    // 평면 행(이미지 x 태그 ID)을 이미지 단위 DTO 로 묶는다 (행 순서 유지, 태그 정보는 태그 사전에서 매핑)
+    private List<ImagesDTO> toImagesDTOs(List<GalleryImageRow> rows) {
+        Set<Long> tagIds = new HashSet<>();
+        for (GalleryImageRow row : rows) {
+            if (row.getTagId() != null) {
+                tagIds.add(row.getTagId());
+            }
+        }
+        Map<Long, TagDictionary.TagEntry> tags = tagDictionary.findAllById(tagIds);
+
+        Map<Long, ImagesDTO> images = new LinkedHashMap<>();
+        for (GalleryImageRow row : rows) {
+            ImagesDTO image = images.computeIfAbsent(row.getId(), id -> ImagesDTO.builder()
+                    .id(row.getId())
+                    .imageURL(row.getImageURL())
+                    .fileName(row.getFileName())
+                    .createDateTime(row.getCreateDateTime())
+                    .description(row.getDescription())
+                    .projectName(row.getProjectName())
+                    .index(row.getImageIndex())
+                    .isShow(row.getIsShow())
+                    .isBasic(row.getIsBasic())
+                    .tags(new ArrayList<>())
+                    .srcset(imageDerivativeService.srcset(row.getImageURL(), row.getWidth(), row.getVariantWidths()))
+                    .build());
+
+            TagDictionary.TagEntry tag = row.getTagId() != null ? tags.get(row.getTagId()) : null;
+            if (tag != null) {
+                image.getTags().add(ImagesDTO.TagInfo.builder()
+                        .id(tag.id())
+                        .tagName(tag.tagName())
+                        .createDateTime(tag.createDateTime())
+                        .build());
+            }
+        }
+        return new ArrayList<>(images.values());
+    }
+
+    // 태그 조합 필터 + 태그별 개수 (갤러리 스냅샷 기반 비트맵 인덱스, DB 조회 없음)
+    public ImageFacetResponse getImageFacets(List<Long> tagIds, String match, boolean showOnly,
+                                             String cursor, int size) {
+        boolean matchAll;
+        if ("all".equalsIgnoreCase(match)) {
+            matchAll = true;
+        } else if ("any".equalsIgnoreCase(match)) {
+            matchAll = false;
+        } else {
+            throw new RuntimeException("match 는 all 또는 any 만 가능합니다: " + match);
+        }
+        int pageSize = Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+        GalleryCursor after = cursor == null || cursor.isBlank() ? null : GalleryCursor.decode(cursor);
+        Set<Long> selected = tagIds == null ? Set.of() : new LinkedHashSet<>(tagIds);
+
+        GalleryFacetIndex.Index index = galleryFacetIndex.get(getGallerySnapshot());
+        BitSet result = index.match(selected, matchAll, showOnly);
+
+        // 커서 다음 서수부터 한 페이지만 꺼낸다 (다음 페이지 존재 여부 확인을 위해 한 개 더)
+        List<ImagesDTO> images = new ArrayList<>(pageSize + 1);
+        int from = after != null ? index.ordinalAfter(after) : 0;
+        for (int ordinal = result.nextSetBit(from); ordinal >= 0 && images.size() <= pageSize;
+             ordinal = result.nextSetBit(ordinal + 1)) {
+            images.add(index.image(ordinal));
+        }
+        boolean hasNext = images.size() > pageSize;
+        if (hasNext) {
+            images = images.subList(0, pageSize);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            ImagesDTO last = images.get(images.size() - 1);
+            nextCursor = new GalleryCursor(last.getIndex(), last.getId()).encode();
+        }
+
+        Map<Long, Integer> counts = index.facetCounts(result);
+        Map<Long, TagDictionary.TagEntry> tags = tagDictionary.findAllById(counts.keySet());
+        List<ImageFacetResponse.TagFacet> facets = counts.entrySet().stream()
+                .filter(entry -> tags.containsKey(entry.getKey()))
+                .map(entry -> ImageFacetResponse.TagFacet.builder()
+                        .tagId(entry.getKey())
+                        .tagName(tags.get(entry.getKey()).tagName())
+                        .count(entry.getValue())
+                        .selected(selected.contains(entry.getKey()))
+                        .build())
+                .sorted(Comparator.comparingInt(ImageFacetResponse.TagFacet::getCount).reversed()
+                        .thenComparing(ImageFacetResponse.TagFacet::getTagId))
+                .toList();
+
+        return ImageFacetResponse.builder()
+                .totalCount(result.cardinality())
+                .images(images)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .facets(facets)
+                .build();
+    }
+
+    // 요청한 필드만 조회한 갤러리 (SELECT 절과 응답 키 모두 fields 로 결정)
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getImageFields(String fields) {
+        Set<String> requested = SparseFields.parse(fields, IMAGE_FIELDS);
+        boolean withTags = requested.contains("tags");
+        boolean withSrcset = requested.contains("srcset");
+
+        Set<String> columns = new LinkedHashSet<>(requested);
+        columns.remove("tags");
+        columns.remove("srcset");
+        if (withTags) {
+            columns.add("id");
+        }
+        if (withSrcset) {
+            columns.add("imageURL");
+            columns.add("width");
+            columns.add("variantWidths");
+        }
+        List<Map<String, Object>> rows = imageRepository.findGalleryFields(columns);
+        Map<Long, List<ImagesDTO.TagInfo>> tagsByImage = withTags ? findTagInfosByImage() : Map.of();
+
+        List<Map<String, Object>> images = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> image = new LinkedHashMap<>();
+            for (String field : requested) {
+                switch (field) {
+                    case "tags" -> image.put(field, tagsByImage.getOrDefault((Long) row.get("id"), List.of()));
+                    case "srcset" -> image.put(field, imageDerivativeService.srcset((String) row.get("imageURL"),
+                            (Integer) row.get("width"), (String) row.get("variantWidths")));
+                    default -> image.put(field, row.get(field));
+                }
+            }
+            images.add(image);
+        }
+        return images;
+    }
+
+    // 이미지별 태그 목록 (ID 쌍만 조회하고 태그 정보는 태그 사전에서 매핑)
+    private Map<Long, List<ImagesDTO.TagInfo>> findTagInfosByImage() {
+        List<ImageTagPair> pairs = imageTagRepository.findAllPairs();
+        Set<Long> tagIds = new HashSet<>();
+        for (ImageTagPair pair : pairs) {
+            tagIds.add(pair.tagId());
+        }
+        Map<Long, TagDictionary.TagEntry> tags = tagDictionary.findAllById(tagIds);
+
+        Map<Long, List<ImagesDTO.TagInfo>> tagsByImage = new HashMap<>();
+        for (ImageTagPair pair : pairs) {
+            TagDictionary.TagEntry tag = tags.get(pair.tagId());
+            if (tag != null) {
+                tagsByImage.computeIfAbsent(pair.imageId(), id -> new ArrayList<>())
+                        .add(ImagesDTO.TagInfo.builder()
+                                .id(tag.id())
+                                .tagName(tag.tagName())
+                                .createDateTime(tag.createDateTime())
+                                .build());
+            }
+        }
+        return tagsByImage;
+    }
+
+    // 미리 직렬화된 갤러리 스냅샷 (변경 이벤트가 없으면 DB 조회 없이 반환)
+    public GalleryCache.Snapshot getGallerySnapshot() {
+        return galleryCache.get(this::getAllImages);
+    }
+
+    // 새 이미지는 갤러리 끝에 추가하고, index(위치, 0부터)를 지정하면 그 위치로 옮긴다
     public ImageUploadResponse uploadImage(MultipartFile file, Long projectId, String description, 
-                                         boolean isShow, boolean isBasic, int index) {
+                                         boolean isShow, boolean isBasic, Integer index) {
         try {
             // 파일 유효성 검사
             validateImageFile(file);
             
-            // 업로드 디렉토리 생성
-            createUploadDirectory();
-            
-            // 고유한 파일명 생성
+            // 고유한 파일명으로 스트리밍 저장 (해시/타입 판별 포함)
             String originalFileName = file.getOriginalFilename();
             String fileExtension = getFileExtension(originalFileName);
-            String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
-            
-            // 파일 저장 경로
-            Path filePath = Paths.get(UPLOAD_DIR + uniqueFileName);
-            Files.write(filePath, file.getBytes());
+            StoredImage stored = imageFileStore.store(file, fileExtension);
+            String uniqueFileName = stored.getFileName();
             
             // 프로젝트 조회 (있는 경우)
             Project project = null;
@@ -109,15 +292,27 @@ public class ImageService {
             Images_Info imageInfo = Images_Info.builder()
                     .ImageName(uniqueFileName)
                     .imageURL(BASE_URL + uniqueFileName)
+                    .contentHash(stored.getContentHash())
+                    .fileSize(stored.getSize())
+                    .contentType(stored.getContentType())
                     .isShow(isShow)
                     .isBasic(isBasic)
-                    .index(index)
+                    .index(orderKeyService.nextKey(imageRepository))
                     .projectDescription(description)
                     .createDateTime(currentDateTime)
                     .project(project)
                     .build();
             
             Images_Info savedImage = imageRepository.save(imageInfo);
+            int orderKey = savedImage.getIndex();
+            if (index != null) {
+                imageOrderService.moveTo(savedImage.getId(), index);
+                orderKey = currentIndex(savedImage.getId());
+            }
+            
+            // 반응형 파생 이미지 생성 (비동기)
+            imageDerivativeService.generateAsync(savedImage.getId(), uniqueFileName);
+            eventPublisher.publishEvent(new GalleryChangedEvent("image uploaded"));
             
             // 응답 생성
             return ImageUploadResponse.builder()
@@ -125,12 +320,12 @@ public class ImageService {
                     .fileName(uniqueFileName)
                     .originalFileName(originalFileName)
                     .imageURL(savedImage.getImageURL())
-                    .fileSize(file.getSize())
-                    .contentType(file.getContentType())
+                    .fileSize(stored.getSize())
+                    .contentType(stored.getContentType())
                     .createDateTime(currentDateTime)
                     .isShow(isShow)
                     .isBasic(isBasic)
-                    .index(index)
+                    .index(orderKey)
                     .projectId(projectId)
                     .projectName(project != null ? project.getProjectName() : null)
                     .message("Image uploaded successfully")
@@ -145,16 +340,160 @@ public class ImageService {
                                                         String description, boolean isShow, boolean isBasic) {
         List<ImageUploadResponse> responses = new ArrayList<>();
         
-        for (int i = 0; i < files.length; i++) {
-            MultipartFile file = files[i];
-            // 각 파일의 인덱스를 자동으로 설정
-            ImageUploadResponse response = uploadImage(file, projectId, description, isShow, isBasic, i);
+        for (MultipartFile file : files) {
+            // 요청 순서대로 갤러리 끝에 추가
+            ImageUploadResponse response = uploadImage(file, projectId, description, isShow, isBasic, null);
             responses.add(response);
         }
         
         return responses;
     }
 
+    // 병렬 다중 업로드: 디스크 저장은 가상 스레드에서 동시에 수행하고,
+    // 프로젝트 조회는 한 번, DB 저장은 saveAll 한 번으로 처리한다.
+    // 파일별 실패는 예외 대신 결과 목록에 기록된다.
+    public MultipleImageUploadResponse uploadMultipleImagesInParallel(MultipartFile[] files, Long projectId,
+                                                                      String description, boolean isShow, boolean isBasic) {
+        StoredImage[] storedImages = new StoredImage[files.length];
+        String[] errors = new String[files.length];
+
+        // 1. 디스크 저장 (동시 저장 개수는 UPLOAD_CONCURRENCY 로 제한)
+        Semaphore permits = new Semaphore(UPLOAD_CONCURRENCY);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < files.length; i++) {
+                final int fileIndex = i;
+                executor.submit(() -> {
+                    MultipartFile file = files[fileIndex];
+                    try {
+                        permits.acquire();
+                        try {
+                            validateImageFile(file);
+                            storedImages[fileIndex] = imageFileStore.store(file, getFileExtension(file.getOriginalFilename()));
+                        } finally {
+                            permits.release();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        errors[fileIndex] = "Upload interrupted";
+                    } catch (IOException | RuntimeException e) {
+                        errors[fileIndex] = e.getMessage();
+                    }
+                });
+            }
+        }
+
+        // 2. 프로젝트 조회 (한 번만)
+        Project project = null;
+        if (projectId != null) {
+            project = projectRepository.findById(projectId).orElse(null);
+        }
+
+        // 3. 저장에 성공한 파일들만 한 번에 DB 저장
+        String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        List<Integer> storedIndexes = new ArrayList<>();
+        List<Images_Info> imageInfos = new ArrayList<>();
+        // 요청 순서대로 갤러리 끝에 추가 (현재 최대 키 다음부터 gap 간격)
+        Integer lastKey = imageRepository.findMaxIndex();
+        for (int i = 0; i < files.length; i++) {
+            StoredImage stored = storedImages[i];
+            if (stored == null) {
+                continue;
+            }
+            storedIndexes.add(i);
+            lastKey = orderKeyService.nextKey(lastKey);
+            imageInfos.add(Images_Info.builder()
+                    .ImageName(stored.getFileName())
+                    .imageURL(BASE_URL + stored.getFileName())
+                    .contentHash(stored.getContentHash())
+                    .fileSize(stored.getSize())
+                    .contentType(stored.getContentType())
+                    .isShow(isShow)
+                    .isBasic(isBasic)
+                    .index(lastKey)
+                    .projectDescription(description)
+                    .createDateTime(currentDateTime)
+                    .project(project)
+                    .build());
+        }
+
+        List<Images_Info> savedImages = List.of();
+        if (!imageInfos.isEmpty()) {
+            try {
+                savedImages = imageRepository.saveAll(imageInfos);
+                for (Images_Info savedImage : savedImages) {
+                    imageDerivativeService.generateAsync(savedImage.getId(), savedImage.getImageName());
+                }
+                eventPublisher.publishEvent(new GalleryChangedEvent("images uploaded"));
+            } catch (RuntimeException e) {
+                // DB 저장 실패 시 디스크에 남은 파일 정리
+                for (int i : storedIndexes) {
+                    deleteStoredFileQuietly(storedImages[i].getFileName());
+                    storedImages[i] = null;
+                    errors[i] = "Failed to save image info: " + e.getMessage();
+                }
+            }
+        }
+
+        // 4. 요청 순서대로 파일별 결과 생성
+        Map<Integer, Images_Info> savedByIndex = new HashMap<>();
+        for (int i = 0; i < savedImages.size(); i++) {
+            savedByIndex.put(storedIndexes.get(i), savedImages.get(i));
+        }
+
+        List<MultipleImageUploadResponse.FileResult> results = new ArrayList<>(files.length);
+        int successCount = 0;
+        for (int i = 0; i < files.length; i++) {
+            String originalFileName = files[i].getOriginalFilename();
+            Images_Info savedImage = savedByIndex.get(i);
+            if (savedImage == null) {
+                results.add(MultipleImageUploadResponse.FileResult.builder()
+                        .index(i)
+                        .originalFileName(originalFileName)
+                        .success(false)
+                        .error(errors[i] != null ? errors[i] : "Failed to upload image")
+                        .build());
+                continue;
+            }
+
+            successCount++;
+            results.add(MultipleImageUploadResponse.FileResult.builder()
+                    .index(i)
+                    .originalFileName(originalFileName)
+                    .success(true)
+                    .image(ImageUploadResponse.builder()
+                            .id(savedImage.getId())
+                            .fileName(savedImage.getImageName())
+                            .originalFileName(originalFileName)
+                            .imageURL(savedImage.getImageURL())
+                            .fileSize(storedImages[i].getSize())
+                            .contentType(storedImages[i].getContentType())
+                            .createDateTime(currentDateTime)
+                            .isShow(isShow)
+                            .isBasic(isBasic)
+                            .index(savedImage.getIndex())
+                            .projectId(projectId)
+                            .projectName(project != null ? project.getProjectName() : null)
+                            .message("Image uploaded successfully")
+                            .build())
+                    .build());
+        }
+
+        return MultipleImageUploadResponse.builder()
+                .totalCount(files.length)
+                .successCount(successCount)
+                .failureCount(files.length - successCount)
+                .results(results)
+                .build();
+    }
+
+    private void deleteStoredFileQuietly(String fileName) {
+        try {
+            imageFileStore.delete(fileName);
+        } catch (IOException e) {
+            System.err.println("Failed to clean up stored file " + fileName + ": " + e.getMessage());
+        }
+    }
+
     @Transactional
     public void deleteImage(Long imageId) {
         Images_Info imageInfo = imageRepository.findById(imageId)
@@ -173,9 +512,12 @@ public class ImageService {
             imageRepository.flush();
             
             // 4. 파일 시스템에서 파일 삭제 (DB 삭제 성공 후)
-            Path filePath = Paths.get(UPLOAD_DIR + imageInfo.getImageName());
-            boolean fileDeleted = Files.deleteIfExists(filePath);
-            System.out.println("File deletion result for " + imageInfo.getImageName() + ": " + fileDeleted);
+            // imageName 은 수정될 수 있으므로 저장된 파일명은 imageURL 에서 얻는다
+            String storedFileName = ImageDerivativeService.storedFileName(imageInfo.getImageURL());
+            boolean fileDeleted = imageFileStore.delete(storedFileName);
+            imageDerivativeService.deleteDerivatives(storedFileName, imageInfo.getVariantWidths());
+            eventPublisher.publishEvent(new GalleryChangedEvent("image deleted"));
+            System.out.println("File deletion result for " + storedFileName + ": " + fileDeleted);
             
         } catch (Exception e) {
             System.err.println("Error deleting image with ID " + imageId + ": " + e.getMessage());
@@ -208,9 +550,12 @@ public class ImageService {
             imageRepository.flush();
             
             // 5. 파일 시스템에서 파일 삭제
-            Path filePath = Paths.get(UPLOAD_DIR + imageInfo.getImageName());
-            boolean fileDeleted = Files.deleteIfExists(filePath);
-            System.out.println("File deletion result for " + imageInfo.getImageName() + ": " + fileDeleted);
+            // imageName 은 수정될 수 있으므로 저장된 파일명은 imageURL 에서 얻는다
+            String storedFileName = ImageDerivativeService.storedFileName(imageInfo.getImageURL());
+            boolean fileDeleted = imageFileStore.delete(storedFileName);
+            imageDerivativeService.deleteDerivatives(storedFileName, imageInfo.getVariantWidths());
+            eventPublisher.publishEvent(new GalleryChangedEvent("image deleted"));
+            System.out.println("File deletion result for " + storedFileName + ": " + fileDeleted);
             
         } catch (Exception e) {
             System.err.println("Error safely deleting image with ID " + imageId + ": " + e.getMessage());
@@ -218,17 +563,6 @@ public class ImageService {
         }
     }
 
-    private void createUploadDirectory() {
-        try {
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create upload directory: " + e.getMessage(), e);
-        }
-    }
-
     private void validateImageFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new RuntimeException("File is empty");
@@ -274,9 +608,12 @@ public class ImageService {
             imageRepository.flush();
             
             // 파일 시스템에서 파일 삭제
-            Path filePath = Paths.get(UPLOAD_DIR + imageInfo.getImageName());
-            boolean fileDeleted = Files.deleteIfExists(filePath);
-            System.out.println("File deletion result for " + imageInfo.getImageName() + ": " + fileDeleted);
+            // imageName 은 수정될 수 있으므로 저장된 파일명은 imageURL 에서 얻는다
+            String storedFileName = ImageDerivativeService.storedFileName(imageInfo.getImageURL());
+            boolean fileDeleted = imageFileStore.delete(storedFileName);
+            imageDerivativeService.deleteDerivatives(storedFileName, imageInfo.getVariantWidths());
+            eventPublisher.publishEvent(new GalleryChangedEvent("image deleted"));
+            System.out.println("File deletion result for " + storedFileName + ": " + fileDeleted);
             
         } catch (Exception e) {
             System.err.println("Error deleting image with cascade for ID " + imageId + ": " + e.getMessage());
@@ -306,15 +643,19 @@ public class ImageService {
         if (isBasic != null) {
             imageInfo.setBasic(isBasic);
         }
-        if (index != null) {
-            imageInfo.setIndex(index);
-        }
         if (imageName != null && !imageName.trim().isEmpty()) {
             // imageName만 업데이트 (imageURL은 변경하지 않음)
             imageInfo.setImageName(imageName);
         }
         
         Images_Info updatedImage = imageRepository.save(imageInfo);
+        eventPublisher.publishEvent(new GalleryChangedEvent("image updated"));
+        // index 는 정렬 키가 아니라 위치(0부터)로 보고 이웃 키 사이로 옮긴다
+        int orderKey = updatedImage.getIndex();
+        if (index != null) {
+            imageOrderService.moveTo(imageId, index);
+            orderKey = currentIndex(imageId);
+        }
         
         return ImageUploadResponse.builder()
                 .id(updatedImage.getId())
@@ -323,10 +664,17 @@ public class ImageService {
                 .createDateTime(updatedImage.getCreateDateTime())
                 .isShow(updatedImage.isShow())
                 .isBasic(updatedImage.isBasic())
-                .index(updatedImage.getIndex())
+                .index(orderKey)
                 .projectId(project != null ? project.getId() : null)
                 .projectName(project != null ? project.getProjectName() : null)
                 .message("Image updated successfully")
                 .build();
     }
+
+    // 이동 후의 정렬 키 (이동은 별도 트랜잭션에서 JDBC 로 반영되므로 다시 조회)
+    private int currentIndex(Long imageId) {
+        return imageRepository.findById(imageId)
+                .map(Images_Info::getIndex)
+                .orElseThrow(() -> new RuntimeException("Image not found with id: " + imageId));
+    }
 }
@@ -0,0 +1,16 @@
+package com.ondoproject.service.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 디스크에 저장이 끝난 업로드 파일 정보 (저장과 같은 패스에서 계산된 값들)
+ */
+@Getter
+@AllArgsConstructor
+public class StoredImage {
+    private final String fileName;
+    private final long size;
+    private final String contentHash;   // SHA-256 (hex)
+    private final String contentType;   // 매직 바이트로 판별한 실제 타입
+}
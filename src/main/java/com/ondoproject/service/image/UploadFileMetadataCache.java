@@ -0,0 +1,83 @@
+package com.ondoproject.service.image;
+
+import com.ondoproject.event.UploadedFileDeletedEvent;
+import com.ondoproject.repository.ImageRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드 파일의 ETag / Last-Modified / 크기 캐시.
+ * 업로드 파일은 UUID 이름으로 한 번 기록된 뒤 바뀌지 않으므로, 첫 요청에서 한 번만 stat 하고
+ * 삭제 이벤트가 올 때까지 보관한다. ETag 는 업로드 시 기록한 SHA-256 을 우선 사용한다.
+ */
+@Component
+@AllArgsConstructor
+public class UploadFileMetadataCache {
+    private static final String BASE_URL = "/uploads/";
+
+    private final ImageFileStore imageFileStore;
+    private final ImageRepository imageRepository;
+    private final Map<String, FileMetadata> metadata = new ConcurrentHashMap<>();
+
+    // 파일이 없으면 empty (없는 파일은 캐시하지 않음)
+    public Optional<FileMetadata> get(String fileName) throws IOException {
+        FileMetadata cached = metadata.get(fileName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Path path = imageFileStore.resolve(fileName);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
+            return Optional.empty();
+        }
+
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        FileMetadata loaded = new FileMetadata(path, resolveEtag(fileName, attributes.size(), lastModified),
+                lastModified, attributes.size());
+        metadata.put(fileName, loaded);
+        return Optional.of(loaded);
+    }
+
+    @EventListener
+    public void onUploadedFileDeleted(UploadedFileDeletedEvent event) {
+        metadata.remove(event.getFileName());
+    }
+
+    // DB 에 기록된 콘텐츠 해시가 있으면 사용하고, 없으면(파생 이미지, 이전 업로드) 크기+수정시각으로 생성
+    private String resolveEtag(String fileName, long size, long lastModified) {
+        List<String> hashes = imageRepository.findContentHashesByImageURL(BASE_URL + fileName);
+        for (String hash : hashes) {
+            if (hash != null) {
+                return hash;
+            }
+        }
+        return Long.toHexString(size) + "-" + Long.toHexString(lastModified);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FileMetadata {
+        private final Path path;
+        private final String etag;      // 따옴표 없는 값
+        private final long lastModified;
+        private final long length;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ondoproject.service.news;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 뉴스 피드 커서: 마지막으로 내려준 뉴스의 (createdAt, id).
+ * 클라이언트에는 불투명한 문자열로 전달되도록 "id:createdAt" 을 URL-safe Base64 로 인코딩한다.
+ */
+public record NewsCursor(LocalDateTime createdAt, long id) {
+
+    public String encode() {
+        String raw = id + ":" + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NewsCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new NewsCursor(LocalDateTime.parse(raw.substring(separator + 1)),
+                    Long.parseLong(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new RuntimeException("유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
@@ -2,21 +2,43 @@ package com.ondoproject.service.news;
 
 import com.ondoproject.domain.news.News;
 import com.ondoproject.dto.news.*;
+import com.ondoproject.event.NewsChangedEvent;
 import com.ondoproject.repository.NewsRepository;
+import com.ondoproject.repository.projection.NewsListView;
+import com.ondoproject.service.SparseFields;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class NewsService {
     
+    // ?fields= 로 선택 가능한 NewsListResponse 필드
+    private static final Set<String> NEWS_FIELDS = Set.of("id", "title", "summary", "imageURL",
+            "createdAt", "updatedAt", "isPublished", "author");
+    private static final int MAX_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_FEED_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_TERMS = 8;
+    private static final Pattern SEARCH_TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
     private final NewsRepository newsRepository;
+    private final PublishedNewsCounter publishedNewsCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 모든 뉴스 조회 (발행된 것만)
     public List<NewsListResponse> getAllNews() {
@@ -25,12 +47,53 @@ public class NewsService {
                 .toList();
     }
     
+    // 요청한 필드만 조회한 발행 뉴스 목록 (SELECT 절과 응답 키 모두 fields 로 결정)
+    public List<Map<String, Object>> getNewsFields(String fields) {
+        return newsRepository.findPublishedFields(SparseFields.parse(fields, NEWS_FIELDS));
+    }
+    
     // 페이징된 뉴스 조회
     public Page<NewsListResponse> getNewsWithPaging(Pageable pageable) {
         return newsRepository.findByIsPublishedTrueOrderByCreatedAtDesc(pageable)
                 .map(this::convertToListResponse);
     }
     
+    // 최신 발행 뉴스 size 건 (첫 화면 묶음용)
+    public List<NewsListResponse> getLatestNews(int size) {
+        return newsRepository.findPublishedFeed(Limit.of(size)).stream()
+                .map(this::convertToListResponse)
+                .toList();
+    }
+
+    // 무한 스크롤 피드 (키셋 커서, COUNT/OFFSET 없음)
+    public NewsFeedResponse getNewsFeed(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(MAX_FEED_PAGE_SIZE, size));
+        NewsCursor after = cursor == null || cursor.isBlank() ? null : NewsCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 개 더 조회
+        Limit limit = Limit.of(pageSize + 1);
+        List<NewsListView> rows = after == null
+                ? newsRepository.findPublishedFeed(limit)
+                : newsRepository.findPublishedFeedAfter(after.createdAt(), after.id(), limit);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            NewsListView last = rows.get(rows.size() - 1);
+            nextCursor = new NewsCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return NewsFeedResponse.builder()
+                .items(rows.stream().map(this::convertToListResponse).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(publishedNewsCounter.get())
+                .build();
+    }
+    
     // 특정 뉴스 조회
     public NewsResponse getNewsById(Long id) {
         News news = newsRepository.findById(id)
@@ -54,6 +117,8 @@ public class NewsService {
                 .build();
         
         News savedNews = newsRepository.save(news);
+        eventPublisher.publishEvent(new NewsChangedEvent(savedNews.getId(),
+                Boolean.TRUE.equals(savedNews.getIsPublished()), "news created"));
         return convertToResponse(savedNews);
     }
     
@@ -62,6 +127,7 @@ public class NewsService {
     public NewsResponse updateNews(Long id, NewsUpdateRequest request) {
         News news = newsRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("뉴스를 찾을 수 없습니다. ID: " + id));
+        boolean wasPublished = Boolean.TRUE.equals(news.getIsPublished());
         
         // 필드별로 null 체크 후 업데이트
         if (request.getTitle() != null) {
@@ -90,16 +156,19 @@ public class NewsService {
         }
         
         News updatedNews = newsRepository.save(news);
+        eventPublisher.publishEvent(new NewsChangedEvent(id,
+                wasPublished || Boolean.TRUE.equals(updatedNews.getIsPublished()), "news updated"));
         return convertToResponse(updatedNews);
     }
     
     // 뉴스 삭제
     @Transactional
     public void deleteNews(Long id) {
-        if (!newsRepository.existsById(id)) {
-            throw new RuntimeException("뉴스를 찾을 수 없습니다. ID: " + id);
-        }
-        newsRepository.deleteById(id);
+        News news = newsRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("뉴스를 찾을 수 없습니다. ID: " + id));
+        newsRepository.delete(news);
+        eventPublisher.publishEvent(new NewsChangedEvent(id,
+                Boolean.TRUE.equals(news.getIsPublished()), "news deleted"));
     }
     
     // 제목으로 검색
@@ -109,6 +178,48 @@ public class NewsService {
                 .toList();
     }
     
+    // 전문 검색 (제목/요약/본문, 관련도 순, 하이라이트 포함)
+    public Page<NewsSearchResponse> search(String query, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(MAX_SEARCH_PAGE_SIZE, size)));
+        String tsQuery = toPrefixTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        long total = newsRepository.countSearchPublished(tsQuery);
+        if (total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+        List<NewsSearchResponse> content = newsRepository
+                .searchPublished(tsQuery, pageable.getPageSize(), pageable.getOffset()).stream()
+                .map(row -> NewsSearchResponse.builder()
+                        .id(row.getId())
+                        .title(row.getTitle())
+                        .titleHighlight(row.getTitleHighlight())
+                        .snippet(row.getSnippet())
+                        .imageURL(row.getImageURL())
+                        .author(row.getAuthor())
+                        .createdAt(row.getCreatedAt())
+                        .rank(row.getRank())
+                        .build())
+                .toList();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // 검색어를 "단어:* & 단어:*" 형태로 변환 (문자/숫자 외에는 모두 구분자로 취급하므로 tsquery 문법 주입이 없다)
+    // 한글은 조사가 붙은 채 색인되므로 접두어 일치로 찾는다 ("연구" -> "연구소에서")
+    private static String toPrefixTsQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        return SEARCH_TERM_SEPARATOR.splitAsStream(query.toLowerCase(Locale.ROOT))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_SEARCH_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
     // 작성자로 검색
     public List<NewsListResponse> searchByAuthor(String author) {
         return newsRepository.findByAuthorContainingAndIsPublishedTrueOrderByCreatedAtDesc(author).stream()
@@ -140,8 +251,8 @@ public class NewsService {
                 .build();
     }
     
-    // Entity -> ListResponse 변환
-    private NewsListResponse convertToListResponse(News news) {
+    // 목록 프로젝션 -> ListResponse 변환
+    private NewsListResponse convertToListResponse(NewsListView news) {
         return NewsListResponse.builder()
                 .id(news.getId())
                 .title(news.getTitle())
@@ -0,0 +1,350 @@
+package com.ondoproject.service.news;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ondoproject.event.NewsChangedEvent;
+import com.ondoproject.repository.NewsRepository;
+import com.ondoproject.repository.projection.NewsListView;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발행 뉴스 구독 피드 (RSS 2.0 / Atom 1.0 / JSON Feed 1.1).
+ * 최신 뉴스 N 건을 세 형식의 바이트로 미리 렌더링해 두고 ETag/Last-Modified 와 함께 그대로 내려준다.
+ * 발행 뉴스가 바뀐 커밋 이후에만 다시 렌더링하며, 목록(id, 수정 시각)이 이전과 같으면 기존 바이트를 재사용한다.
+ */
+@Component
+public class NewsSyndicationFeed {
+    private static final Logger log = LoggerFactory.getLogger(NewsSyndicationFeed.class);
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String DC_NS = "http://purl.org/dc/elements/1.1/";
+
+    public enum Format {
+        RSS("application/rss+xml;charset=UTF-8", "/news/rss.xml"),
+        ATOM("application/atom+xml;charset=UTF-8", "/news/atom.xml"),
+        JSON("application/feed+json;charset=UTF-8", "/news/feed.json");
+
+        private final String contentType;
+        private final String path;
+
+        Format(String contentType, String path) {
+            this.contentType = contentType;
+            this.path = path;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    private final NewsRepository newsRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final int size;
+    private final String siteUrl;
+    private final String title;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final AtomicLong version = new AtomicLong();
+    private volatile Rendered rendered;
+
+    public NewsSyndicationFeed(NewsRepository newsRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${ondo.news.syndication.size:20}") int size,
+                               @Value("${ondo.news.syndication.site-url:}") String siteUrl,
+                               @Value("${ondo.news.syndication.title:ONDO News}") String title) {
+        this.newsRepository = newsRepository;
+        this.objectMapper = objectMapper;
+        // 커밋 후 리스너에서도 호출되므로 항상 새 읽기 전용 트랜잭션에서 조회
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.size = Math.max(1, size);
+        // 피드 링크/GUID 는 구독기에 영구히 캐시되므로 주소가 없으면 localhost 로 대신하지 않고 피드를 끈다
+        String trimmed = siteUrl == null ? "" : siteUrl.trim();
+        this.siteUrl = trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+        this.title = title;
+    }
+
+    public boolean isEnabled() {
+        return !siteUrl.isEmpty();
+    }
+
+    public Body get(Format format) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("ondo.news.syndication.site-url is not configured");
+        }
+        Rendered current = rendered;
+        if (current == null || current.version != version.get()) {
+            current = refresh();
+        }
+        return current.bodies.get(format);
+    }
+
+    // 시작 시 미리 렌더링 (실패하면 첫 요청에서 다시 시도)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!isEnabled()) {
+            log.warn("ondo.news.syndication.site-url (ONDO_SITE_URL) 이 설정되지 않아 뉴스 구독 피드를 제공하지 않습니다 (503)");
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("뉴스 피드 사전 렌더링 실패: {}", e.getMessage());
+        }
+    }
+
+    // 발행 뉴스가 바뀐 커밋 이후 버전을 올리고 바로 다시 렌더링 (폴링 요청은 DB 를 거치지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (!event.isAffectsPublished() || !isEnabled()) {
+            return;
+        }
+        long newVersion = version.incrementAndGet();
+        log.debug("뉴스 피드 무효화: version={}, newsId={}, reason={}", newVersion, event.getNewsId(), event.getReason());
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("뉴스 피드 재렌더링 실패 (다음 요청에서 재시도): {}", e.getMessage());
+        }
+    }
+
+    private synchronized Rendered refresh() {
+        // 로딩 전에 읽은 버전으로 기록: 로딩 중 변경이 커밋되면 다음 조회에서 다시 만든다
+        long loadingVersion = version.get();
+        Rendered current = rendered;
+        if (current != null && current.version == loadingVersion) {
+            return current;
+        }
+
+        List<NewsListView> items = readTransaction.execute(status -> newsRepository.findPublishedFeed(Limit.of(size)));
+        List<String> signature = items.stream()
+                .map(item -> item.getId() + "@" + item.getUpdatedAt())
+                .toList();
+        if (current != null && current.signature.equals(signature)) {
+            rendered = new Rendered(loadingVersion, signature, current.bodies);
+            return rendered;
+        }
+
+        Instant lastModified = items.stream()
+                .map(item -> toInstant(updatedOf(item)))
+                .max(Instant::compareTo)
+                .orElse(Instant.now())
+                .truncatedTo(ChronoUnit.SECONDS);
+        Map<Format, Body> bodies = new EnumMap<>(Format.class);
+        bodies.put(Format.RSS, body(renderRss(items, lastModified), lastModified));
+        bodies.put(Format.ATOM, body(renderAtom(items, lastModified), lastModified));
+        bodies.put(Format.JSON, body(renderJson(items), lastModified));
+        rendered = new Rendered(loadingVersion, signature, bodies);
+        log.debug("뉴스 피드 렌더링: version={}, items={}", loadingVersion, items.size());
+        return rendered;
+    }
+
+    private byte[] renderRss(List<NewsListView> items, Instant lastModified) {
+        return writeXml(xml -> {
+            xml.writeStartElement("rss");
+            xml.writeAttribute("version", "2.0");
+            xml.writeNamespace("atom", ATOM_NS);
+            xml.writeNamespace("dc", DC_NS);
+            xml.writeStartElement("channel");
+            element(xml, "title", title);
+            element(xml, "link", siteUrl);
+            element(xml, "description", title);
+            xml.writeEmptyElement(ATOM_NS, "link");
+            xml.writeAttribute("href", siteUrl + Format.RSS.path);
+            xml.writeAttribute("rel", "self");
+            xml.writeAttribute("type", "application/rss+xml");
+            element(xml, "lastBuildDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.atOffset(ZoneOffset.UTC)));
+            for (NewsListView item : items) {
+                xml.writeStartElement("item");
+                element(xml, "title", item.getTitle());
+                element(xml, "link", linkOf(item));
+                xml.writeStartElement("guid");
+                xml.writeAttribute("isPermaLink", "true");
+                xml.writeCharacters(linkOf(item));
+                xml.writeEndElement();
+                element(xml, "pubDate", DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                        toInstant(item.getCreatedAt()).atOffset(ZoneOffset.UTC)));
+                if (hasText(item.getAuthor())) {
+                    xml.writeStartElement(DC_NS, "creator");
+                    xml.writeCharacters(item.getAuthor());
+                    xml.writeEndElement();
+                }
+                if (hasText(item.getSummary())) {
+                    element(xml, "description", item.getSummary());
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+            xml.writeEndElement();
+        });
+    }
+
+    private byte[] renderAtom(List<NewsListView> items, Instant lastModified) {
+        return writeXml(xml -> {
+            xml.writeStartElement("feed");
+            xml.writeDefaultNamespace(ATOM_NS);
+            element(xml, "title", title);
+            element(xml, "id", siteUrl + "/news");
+            element(xml, "updated", DateTimeFormatter.ISO_INSTANT.format(lastModified));
+            xml.writeEmptyElement("link");
+            xml.writeAttribute("rel", "self");
+            xml.writeAttribute("href", siteUrl + Format.ATOM.path);
+            xml.writeEmptyElement("link");
+            xml.writeAttribute("href", siteUrl);
+            xml.writeStartElement("author");
+            element(xml, "name", title);
+            xml.writeEndElement();
+            for (NewsListView item : items) {
+                xml.writeStartElement("entry");
+                element(xml, "title", item.getTitle());
+                element(xml, "id", linkOf(item));
+                xml.writeEmptyElement("link");
+                xml.writeAttribute("href", linkOf(item));
+                element(xml, "published", DateTimeFormatter.ISO_INSTANT.format(toInstant(item.getCreatedAt())));
+                element(xml, "updated", DateTimeFormatter.ISO_INSTANT.format(toInstant(updatedOf(item))));
+                if (hasText(item.getAuthor())) {
+                    xml.writeStartElement("author");
+                    element(xml, "name", item.getAuthor());
+                    xml.writeEndElement();
+                }
+                if (hasText(item.getSummary())) {
+                    element(xml, "summary", item.getSummary());
+                }
+                xml.writeEndElement();
+            }
+            xml.writeEndElement();
+        });
+    }
+
+    private byte[] renderJson(List<NewsListView> items) {
+        Map<String, Object> feed = new LinkedHashMap<>();
+        feed.put("version", "https://jsonfeed.org/version/1.1");
+        feed.put("title", title);
+        feed.put("home_page_url", siteUrl);
+        feed.put("feed_url", siteUrl + Format.JSON.path);
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (NewsListView item : items) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("id", String.valueOf(item.getId()));
+            entry.put("url", linkOf(item));
+            entry.put("title", item.getTitle());
+            if (hasText(item.getSummary())) {
+                entry.put("summary", item.getSummary());
+                entry.put("content_text", item.getSummary());
+            } else {
+                entry.put("content_text", "");
+            }
+            if (hasText(item.getImageURL())) {
+                entry.put("image", absolute(item.getImageURL()));
+            }
+            entry.put("date_published", DateTimeFormatter.ISO_INSTANT.format(toInstant(item.getCreatedAt())));
+            entry.put("date_modified", DateTimeFormatter.ISO_INSTANT.format(toInstant(updatedOf(item))));
+            if (hasText(item.getAuthor())) {
+                entry.put("authors", List.of(Map.of("name", item.getAuthor())));
+            }
+            entries.add(entry);
+        }
+        feed.put("items", entries);
+        try {
+            return objectMapper.writeValueAsBytes(feed);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to render JSON feed: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] writeXml(XmlBody body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            XMLStreamWriter xml = XMLOutputFactory.newFactory().createXMLStreamWriter(out, "UTF-8");
+            xml.writeStartDocument("UTF-8", "1.0");
+            body.write(xml);
+            xml.writeEndDocument();
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new RuntimeException("Failed to render news feed: " + e.getMessage(), e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(text != null ? text : "");
+        xml.writeEndElement();
+    }
+
+    private static Body body(byte[] bytes, Instant lastModified) {
+        return new Body(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"", lastModified);
+    }
+
+    private String linkOf(NewsListView item) {
+        return siteUrl + "/news/" + item.getId();
+    }
+
+    // 업로드 경로(/uploads/...)는 사이트 주소를 붙여 절대 URL 로
+    private String absolute(String url) {
+        return url.startsWith("/") ? siteUrl + url : url;
+    }
+
+    private static LocalDateTime updatedOf(NewsListView item) {
+        return item.getUpdatedAt() != null ? item.getUpdatedAt() : item.getCreatedAt();
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(zone).toInstant() : Instant.EPOCH;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+
+    private record Rendered(long version, List<String> signature, Map<Format, Body> bodies) {
+    }
+
+    @Getter
+    public static class Body {
+        private final byte[] bytes;
+        private final String etag;
+        private final Instant lastModified;
+
+        private Body(byte[] bytes, String etag, Instant lastModified) {
+            this.bytes = bytes;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
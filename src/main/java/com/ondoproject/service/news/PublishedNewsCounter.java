@@ -0,0 +1,57 @@
+package com.ondoproject.service.news;
+
+import com.ondoproject.event.NewsChangedEvent;
+import com.ondoproject.repository.NewsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발행된 뉴스 수 캐시.
+ * 피드 요청마다 COUNT(*) 를 실행하지 않도록, 뉴스 변경이 커밋되면 버전만 올리고 다음 조회 시 한 번 다시 센다.
+ */
+@Component
+public class PublishedNewsCounter {
+    private static final Logger log = LoggerFactory.getLogger(PublishedNewsCounter.class);
+
+    private final NewsRepository newsRepository;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Count count;
+
+    public PublishedNewsCounter(NewsRepository newsRepository) {
+        this.newsRepository = newsRepository;
+    }
+
+    public long get() {
+        Count current = count;
+        if (current != null && current.version == version.get()) {
+            return current.value;
+        }
+        synchronized (this) {
+            // 세기 전에 읽은 버전으로 기록: 세는 중 변경이 커밋되면 다음 조회에서 다시 센다
+            long countingVersion = version.get();
+            current = count;
+            if (current != null && current.version == countingVersion) {
+                return current.value;
+            }
+            count = new Count(countingVersion, newsRepository.countByIsPublishedTrue());
+            return count.value;
+        }
+    }
+
+    // 커밋 이후(트랜잭션 밖이면 즉시) 버전 증가 (미발행 뉴스만 바뀐 경우는 수가 그대로)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsChanged(NewsChangedEvent event) {
+        if (!event.isAffectsPublished()) {
+            return;
+        }
+        long newVersion = version.incrementAndGet();
+        log.debug("발행 뉴스 수 무효화: version={}, newsId={}, reason={}", newVersion, event.getNewsId(), event.getReason());
+    }
+
+    private record Count(long version, long value) {
+    }
+}
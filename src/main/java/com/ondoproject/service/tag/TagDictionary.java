@@ -0,0 +1,215 @@
+package com.ondoproject.service.tag;
+
+import com.ondoproject.domain.tag.Tag;
+import com.ondoproject.event.TagChangedEvent;
+import com.ondoproject.repository.TagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 태그 사전 (id -> 태그, 자동완성용 소문자 이름 정렬 배열).
+ * 스냅샷은 불변이며, 태그 변경이 커밋되면 버전만 올리고 다음 조회 시 DB 에서 한 번 새로 만들어 교체한다 (copy-on-write).
+ * enabled=false 이면 매 조회를 DB 로 처리한다.
+ */
+@Component
+public class TagDictionary {
+    private static final Logger log = LoggerFactory.getLogger(TagDictionary.class);
+
+    private final TagRepository tagRepository;
+    private final boolean enabled;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public TagDictionary(TagRepository tagRepository,
+                         @Value("${ondo.tag.dictionary.enabled:true}") boolean enabled) {
+        this.tagRepository = tagRepository;
+        this.enabled = enabled;
+    }
+
+    // 전체 태그 (id 순)
+    public List<TagEntry> findAll() {
+        return snapshot().all;
+    }
+
+    public Optional<TagEntry> findById(Long id) {
+        if (!enabled) {
+            return tagRepository.findById(id).map(TagEntry::from);
+        }
+        return Optional.ofNullable(snapshot().byId.get(id));
+    }
+
+    // 여러 태그를 한 번에 조회 (비활성화 시 쿼리 한 번)
+    public Map<Long, TagEntry> findAllById(Collection<Long> ids) {
+        Map<Long, TagEntry> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+        if (!enabled) {
+            tagRepository.findAllById(ids).forEach(tag -> result.put(tag.getId(), TagEntry.from(tag)));
+            return result;
+        }
+        Map<Long, TagEntry> byId = snapshot().byId;
+        for (Long id : ids) {
+            TagEntry entry = byId.get(id);
+            if (entry != null) {
+                result.put(id, entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 태그명 검색 (대소문자 무시): 정확히 일치 > 접두어 일치 > 부분 일치, 짧은 이름 순으로 limit 개.
+     * TagRepository.searchByName 과 같은 순위 규칙을 메모리에서 적용한다.
+     */
+    public List<TagEntry> search(String name, int limit) {
+        String query = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+        if (!enabled) {
+            String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            return tagRepository.searchByName(escaped, limit).stream().map(TagEntry::from).toList();
+        }
+
+        Snapshot current = snapshot();
+        List<TagEntry> prefixMatches = new ArrayList<>();
+        // 정렬된 소문자 이름 배열에서 접두어 범위는 이진 탐색으로 찾는다
+        int from = lowerBound(current.lowerNames, query);
+        for (int i = from; i < current.lowerNames.length && current.lowerNames[i].startsWith(query); i++) {
+            prefixMatches.add(current.sortedByName[i]);
+        }
+        prefixMatches.sort(SEARCH_ORDER);
+
+        List<TagEntry> result = new ArrayList<>(Math.min(limit, current.all.size()));
+        // 정확히 일치하는 이름은 접두어 일치 중 가장 짧으므로 SEARCH_ORDER 정렬에서 맨 앞에 온다
+        for (TagEntry entry : prefixMatches) {
+            if (result.size() == limit) {
+                return result;
+            }
+            result.add(entry);
+        }
+
+        List<TagEntry> substringMatches = new ArrayList<>();
+        for (int i = 0; i < current.lowerNames.length; i++) {
+            String lowerName = current.lowerNames[i];
+            if (!lowerName.startsWith(query) && lowerName.contains(query)) {
+                substringMatches.add(current.sortedByName[i]);
+            }
+        }
+        substringMatches.sort(SEARCH_ORDER);
+        for (TagEntry entry : substringMatches) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    // 커밋 이후(트랜잭션 밖이면 즉시) 버전 증가
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagChanged(TagChangedEvent event) {
+        long newVersion = version.incrementAndGet();
+        log.debug("태그 사전 무효화: version={}, reason={}", newVersion, event.getReason());
+    }
+
+    private Snapshot snapshot() {
+        if (!enabled) {
+            return Snapshot.of(-1, tagRepository.findAll());
+        }
+
+        Snapshot current = snapshot;
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            // 로딩 전에 읽은 버전으로 기록: 로딩 중 변경이 커밋되면 다음 조회에서 다시 만든다
+            long loadingVersion = version.get();
+            current = snapshot;
+            if (current != null && current.version == loadingVersion) {
+                return current;
+            }
+            snapshot = Snapshot.of(loadingVersion, tagRepository.findAll());
+            log.debug("태그 사전 재생성: version={}, tags={}", loadingVersion, snapshot.all.size());
+            return snapshot;
+        }
+    }
+
+    private static int lowerBound(String[] sorted, String key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 짧은 이름 우선, 같은 길이면 이름순 (DB 검색의 length(tag_name), tag_name 정렬과 동일)
+    private static final Comparator<TagEntry> SEARCH_ORDER = Comparator
+            .comparingInt((TagEntry entry) -> entry.lowerName().length())
+            .thenComparing(entry -> entry.tagName() == null ? "" : entry.tagName());
+
+    public record TagEntry(Long id, String tagName, String createDateTime, String description, String color) {
+        private String lowerName() {
+            return tagName == null ? "" : tagName.toLowerCase(Locale.ROOT);
+        }
+
+        static TagEntry from(Tag tag) {
+            return new TagEntry(tag.getId(), tag.getTagName(), tag.getCreateDateTime(), tag.getDescription(), tag.getColor());
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final List<TagEntry> all;
+        private final Map<Long, TagEntry> byId;
+        private final TagEntry[] sortedByName;     // 소문자 이름 순
+        private final String[] lowerNames;         // sortedByName 과 같은 순서의 소문자 이름
+
+        private Snapshot(long version, List<TagEntry> all, Map<Long, TagEntry> byId,
+                         TagEntry[] sortedByName, String[] lowerNames) {
+            this.version = version;
+            this.all = all;
+            this.byId = byId;
+            this.sortedByName = sortedByName;
+            this.lowerNames = lowerNames;
+        }
+
+        static Snapshot of(long version, List<Tag> tags) {
+            List<TagEntry> all = tags.stream()
+                    .map(TagEntry::from)
+                    .sorted(Comparator.comparing(TagEntry::id))
+                    .toList();
+
+            Map<Long, TagEntry> byId = new HashMap<>();
+            for (TagEntry entry : all) {
+                byId.put(entry.id(), entry);
+            }
+
+            TagEntry[] sortedByName = all.toArray(new TagEntry[0]);
+            Arrays.sort(sortedByName, Comparator.comparing(TagEntry::lowerName));
+            String[] lowerNames = new String[sortedByName.length];
+            for (int i = 0; i < sortedByName.length; i++) {
+                lowerNames[i] = sortedByName[i].lowerName();
+            }
+            return new Snapshot(version, all, Map.copyOf(byId), sortedByName, lowerNames);
+        }
+    }
+}
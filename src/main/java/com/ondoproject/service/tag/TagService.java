@@ -4,34 +4,53 @@ import com.ondoproject.domain.tag.Tag;
 import com.ondoproject.dto.tag.TagCreateRequest;
 import com.ondoproject.dto.tag.TagResponse;
 import com.ondoproject.dto.tag.TagUpdateRequest;
+import com.ondoproject.dto.tag.TagUsageResponse;
+import com.ondoproject.event.GalleryChangedEvent;
+import com.ondoproject.event.TagChangedEvent;
 import com.ondoproject.repository.ImageTagRepository;
 import com.ondoproject.repository.TagRepository;
+import com.ondoproject.repository.projection.TagUsageRow;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @AllArgsConstructor
 public class TagService {
     private final TagRepository tagRepository;
     private final ImageTagRepository imageTagRepository;
+    private final TagDictionary tagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 모든 태그 조회
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    // 모든 태그 조회 (태그 사전에서 조회, DB 접근 없음)
     public List<TagResponse> findAll() {
-        return tagRepository.findAll().stream()
-                .map(tag -> new TagResponse(tag.getId(), tag.getTagName(), tag.getCreateDateTime(), tag.getDescription(), tag.getColor()))
+        return tagDictionary.findAll().stream()
+                .map(TagService::toResponse)
+                .toList();
+    }
+
+    // 태그명 검색 (자동완성용, 태그 사전에서 순위/개수 제한까지 처리)
+    public List<TagResponse> searchByName(String name, int limit) {
+        int clampedLimit = Math.max(1, Math.min(MAX_SEARCH_LIMIT, limit));
+        return tagDictionary.search(name, clampedLimit).stream()
+                .map(TagService::toResponse)
                 .toList();
     }
 
     // 특정 태그 조회
     public TagResponse findById(Long id) {
-        Tag tag = tagRepository.findById(id)
+        return tagDictionary.findById(id)
+                .map(TagService::toResponse)
                 .orElseThrow(() -> new RuntimeException("Tag not found with id: " + id));
-        return new TagResponse(tag.getId(), tag.getTagName(), tag.getCreateDateTime(), tag.getDescription(), tag.getColor());
     }
 
     // 태그 생성
@@ -60,6 +79,7 @@ public class TagService {
                 .build();
 
         Tag savedTag = tagRepository.save(tag);
+        eventPublisher.publishEvent(new TagChangedEvent("tag created"));
         return new TagResponse(savedTag.getId(), savedTag.getTagName(), savedTag.getCreateDateTime(), savedTag.getDescription(), savedTag.getColor());
     }
 
@@ -89,6 +109,8 @@ public class TagService {
             tag.setColor(request.getColor());
         }
         Tag updatedTag = tagRepository.save(tag);
+        eventPublisher.publishEvent(new TagChangedEvent("tag updated"));
+        eventPublisher.publishEvent(new GalleryChangedEvent("tag updated"));
         
         return new TagResponse(updatedTag.getId(), updatedTag.getTagName(), updatedTag.getCreateDateTime(), updatedTag.getDescription(), updatedTag.getColor());
     }
@@ -111,11 +133,13 @@ public class TagService {
         }
 
         tagRepository.delete(tag);
+        eventPublisher.publishEvent(new TagChangedEvent("tag deleted"));
+        eventPublisher.publishEvent(new GalleryChangedEvent("tag deleted"));
     }
 
     // 태그가 이미지에 연결되어 있는지 확인하는 메서드
     public boolean hasLinkedImages(Long tagId) {
-        return !imageTagRepository.findByTagId(tagId).isEmpty();
+        return imageTagRepository.existsByTagId(tagId);
     }
 
     // 특정 태그와 연결된 모든 ImageTag 관계를 삭제하는 메서드
@@ -126,7 +150,18 @@ public class TagService {
 
     // 태그 삭제 전 연결된 이미지 개수를 반환하는 메서드 (정보 제공용)
     public int getLinkedImageCount(Long tagId) {
-        return imageTagRepository.findByTagId(tagId).size();
+        return (int) imageTagRepository.countByTagId(tagId);
+    }
+
+    // 모든 태그의 연결된 이미지 수 (집계 쿼리 한 번, 연결이 없는 태그는 0)
+    public List<TagUsageResponse> getTagUsage() {
+        Map<Long, Long> counts = new HashMap<>();
+        for (TagUsageRow row : imageTagRepository.countImagesGroupByTag()) {
+            counts.put(row.getTagId(), row.getImageCount());
+        }
+        return tagDictionary.findAll().stream()
+                .map(tag -> new TagUsageResponse(tag.id(), tag.tagName(), counts.getOrDefault(tag.id(), 0L)))
+                .toList();
     }
 
     // 태그 삭제 (강제 삭제 - 연결된 이미지 관계도 함께 삭제)
@@ -140,6 +175,8 @@ public class TagService {
         
         // 태그 삭제
         tagRepository.delete(tag);
+        eventPublisher.publishEvent(new TagChangedEvent("tag deleted"));
+        eventPublisher.publishEvent(new GalleryChangedEvent("tag deleted"));
     }
 
     // 태그 삭제 (안전 삭제 - 연결된 이미지가 있으면 삭제 거부)
@@ -148,14 +185,20 @@ public class TagService {
         Tag tag = tagRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tag not found with id: " + id));
 
-        // 태그가 이미지에 연결되어 있는지 확인
-        if (hasLinkedImages(id)) {
-            int linkedImageCount = getLinkedImageCount(id);
+        // 태그가 이미지에 연결되어 있는지 확인 (개수 조회 한 번으로 판단)
+        int linkedImageCount = getLinkedImageCount(id);
+        if (linkedImageCount > 0) {
             throw new RuntimeException("Cannot delete tag '" + tag.getTagName() + 
                 "'. It is currently linked to " + linkedImageCount + " image(s). " +
                 "Please remove all image associations before deleting this tag.");
         }
 
         tagRepository.delete(tag);
+        eventPublisher.publishEvent(new TagChangedEvent("tag deleted"));
+        eventPublisher.publishEvent(new GalleryChangedEvent("tag deleted"));
+    }
+
+    private static TagResponse toResponse(TagDictionary.TagEntry tag) {
+        return new TagResponse(tag.id(), tag.tagName(), tag.createDateTime(), tag.description(), tag.color());
     }
 }
@@ -0,0 +1,24 @@
+-- Hibernate(ddl-auto) 가 테이블을 만든 뒤 실행된다 (spring.jpa.defer-datasource-initialization).
+-- 실패한 문장은 건너뛰고 DEBUG 로그로만 남는다 (continue-on-error). 인덱스는 없으면 순차 탐색으로 동작하지만,
+-- 쿼리가 직접 참조하는 컬럼(news.search_vector)은 RequiredSchemaVerifier 가 시작 시 확인하여 없으면 시작을 실패시킨다.
+
+-- 이미지-태그 중복 연결 정리 후 유니크 인덱스 (ImageTag 의 uk_image_tag_image_tag)
+-- 중복 행이 남아 있던 기존 DB 에서는 ddl-auto 가 제약 추가에 실패하므로 가장 오래된 연결만 남기고 지운다
+DELETE FROM image_tag a USING image_tag b
+WHERE a.images_info_id = b.images_info_id AND a.tag_id = b.tag_id AND a.id > b.id;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_image_tag_image_tag ON image_tag (images_info_id, tag_id);
+
+-- 태그 자동완성 검색 (TagRepository.searchByName): 부분 일치는 trigram, 접두어 일치는 pattern_ops 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_tag_name_trgm ON tag USING gin (lower(tag_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_tag_name_lower_prefix ON tag (lower(tag_name) text_pattern_ops);
+
+-- 뉴스 전문 검색 (NewsRepository.searchPublished): 제목(A) > 요약(B) > 본문(C) 가중치의 생성 컬럼 + GIN 인덱스
+-- 필수: 이 컬럼이 없으면 애플리케이션이 시작되지 않는다 (RequiredSchemaVerifier)
+-- 'simple' 설정은 형태소 분석 없이 공백/구두점 기준으로 나누므로 한글 검색어는 접두어(:*) 로 조회한다
+ALTER TABLE news ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(summary, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(contents, '')), 'C')
+) STORED;
+CREATE INDEX IF NOT EXISTS idx_news_search_vector ON news USING gin (search_vector);
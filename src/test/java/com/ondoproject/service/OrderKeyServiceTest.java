@@ -0,0 +1,162 @@
+package com.ondoproject.service;
+
+import com.ondoproject.repository.OrderIndexRepository;
+import com.ondoproject.repository.projection.OrderRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderKeyServiceTest {
+
+    private final OrderKeyService orderKeyService = new OrderKeyService(1024);
+
+    @Test
+    void moveToHeadUsesKeyBeforeFirstRow() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 1024, 3L, 2048));
+
+        OrderKeyService.Result result = orderKeyService.move(repository, 3L, 0);
+
+        assertThat(result.updatedCount()).isEqualTo(1);
+        assertThat(result.renumbered()).isFalse();
+        assertThat(repository.key(3L)).isEqualTo(-1024);
+        assertThat(repository.order()).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void moveToTailUsesKeyAfterLastRow() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 1024, 3L, 2048));
+
+        OrderKeyService.Result result = orderKeyService.move(repository, 1L, 2);
+
+        assertThat(result.updatedCount()).isEqualTo(1);
+        assertThat(result.renumbered()).isFalse();
+        assertThat(repository.key(1L)).isEqualTo(3072);
+        assertThat(repository.order()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void moveBeyondEndAppendsToTail() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 1024, 3L, 2048));
+
+        orderKeyService.move(repository, 1L, 10);
+
+        assertThat(repository.order()).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void moveBetweenNeighborsUsesMidpoint() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 1024, 3L, 2048));
+
+        OrderKeyService.Result result = orderKeyService.move(repository, 3L, 1);
+
+        assertThat(result.updatedCount()).isEqualTo(1);
+        assertThat(repository.key(3L)).isEqualTo(512);
+        assertThat(repository.order()).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    void moveRenumbersWhenGapIsExhausted() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 1, 3L, 2));
+
+        OrderKeyService.Result result = orderKeyService.move(repository, 3L, 1);
+
+        assertThat(result.renumbered()).isTrue();
+        assertThat(repository.order()).containsExactly(1L, 3L, 2L);
+        assertThat(repository.key(1L)).isEqualTo(0);
+        assertThat(repository.key(3L)).isEqualTo(1024);
+        assertThat(repository.key(2L)).isEqualTo(2048);
+    }
+
+    @Test
+    void moveUnknownIdFails() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 1024));
+
+        assertThatThrownBy(() -> orderKeyService.move(repository, 9L, 1))
+                .isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void rebalanceSpreadsTiedAndDenseKeysKeepingOrder() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 0, 3L, 1, 4L, 5000));
+
+        int updated = orderKeyService.rebalance(repository);
+
+        assertThat(updated).isEqualTo(3);
+        assertThat(repository.order()).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(repository.key(2L)).isEqualTo(1024);
+        assertThat(repository.key(3L)).isEqualTo(2048);
+        assertThat(repository.key(4L)).isEqualTo(3072);
+    }
+
+    @Test
+    void rebalanceSkipsWellSpacedKeys() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(Map.of(1L, 0, 2L, 512, 3L, 4096));
+
+        assertThat(orderKeyService.rebalance(repository)).isZero();
+        assertThat(repository.key(2L)).isEqualTo(512);
+    }
+
+    @Test
+    void nextKeyAppendsAfterCurrentMaximum() {
+        assertThat(orderKeyService.nextKey(new InMemoryOrderRepository(Map.of()))).isZero();
+        assertThat(orderKeyService.nextKey(new InMemoryOrderRepository(Map.of(1L, 0, 2L, 2048)))).isEqualTo(3072);
+        assertThat(orderKeyService.nextKey(Integer.MAX_VALUE - 1)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    // ORDER BY index, id 를 흉내 내는 메모리 저장소
+    private static class InMemoryOrderRepository implements OrderIndexRepository {
+        private final Map<Long, Integer> keys;
+
+        InMemoryOrderRepository(Map<Long, Integer> keys) {
+            this.keys = new HashMap<>(keys);
+        }
+
+        int key(Long id) {
+            return keys.get(id);
+        }
+
+        List<Long> order() {
+            return findOrderRows().stream().map(OrderRow::id).toList();
+        }
+
+        @Override
+        public List<OrderRow> findOrderRows() {
+            return keys.entrySet().stream()
+                    .map(entry -> new OrderRow(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparing(OrderRow::orderIndex).thenComparing(OrderRow::id))
+                    .toList();
+        }
+
+        @Override
+        public List<OrderRow> findOrderRows(Long excludeId, int offset, int limit) {
+            return findOrderRows().stream()
+                    .filter(row -> !row.id().equals(excludeId))
+                    .skip(offset)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public Integer findMaxIndex() {
+            return keys.values().stream().max(Integer::compare).orElse(null);
+        }
+
+        @Override
+        public int updateIndexes(Map<Long, Integer> indexes) {
+            int updated = 0;
+            for (Map.Entry<Long, Integer> entry : indexes.entrySet()) {
+                if (keys.containsKey(entry.getKey())) {
+                    keys.put(entry.getKey(), entry.getValue());
+                    updated++;
+                }
+            }
+            return updated;
+        }
+    }
+}